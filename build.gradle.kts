@@ -7,6 +7,7 @@ plugins {
     kotlin("plugin.spring") version "1.9.23"
     kotlin("plugin.jpa") version "1.9.23"
     id("org.flywaydb.flyway") version "7.12.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -20,7 +21,17 @@ repositories {
     mavenCentral()
 }
 
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations["loadTestImplementation"].extendsFrom(configurations.implementation.get())
+configurations["loadTestRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -30,8 +41,10 @@ dependencies {
     implementation("org.flywaydb:flyway-mysql")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
     runtimeOnly("com.h2database:h2")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     runtimeOnly("com.mysql:mysql-connector-j")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    jmhRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<KotlinCompile> {
@@ -45,6 +58,31 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    warmupIterations.set(2)
+    iterations.set(5)
+    fork.set(1)
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    jvmArgsAppend.set(
+        listOf(
+            "-Dkitchenpos.bench.url=" + (findProperty("benchUrl") ?: ""),
+            "-Dkitchenpos.bench.username=" + (findProperty("benchUsername") ?: ""),
+            "-Dkitchenpos.bench.password=" + (findProperty("benchPassword") ?: "")
+        ) + project.properties
+            .filterKeys { it.startsWith("kitchenpos.bench.") }
+            .map { (key, value) -> "-D$key=$value" }
+    )
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Replays a restaurant day against the REST API and reports latency and error rate per endpoint."
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("kitchenpos.loadtest.LoadTestRunner")
+    systemProperties(project.properties.filterKeys { it.startsWith("kitchenpos.load-test.") })
+}
+
 flyway {
     url = "jdbc:mysql://localhost:33306/kitchenpos"
     user = "user"
@@ -0,0 +1,199 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.TimeOrderedIdGenerator;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Seeds products, menus, tables and a history of completed orders. Sizes can be overridden with
+ * {@code -Pkitchenpos.bench.products}, {@code .menus}, {@code .tables} and {@code .orders}.
+ * Every generated menu uses {@link #PRODUCTS_PER_MENU} products, and one busy table carries half of the history.
+ * Orders are spread evenly over the {@link #HISTORY} before seeding, whatever their count.
+ */
+public class CatalogFixture {
+    public static final int PRODUCTS_PER_MENU = 4;
+    public static final int LINES_PER_ORDER = 3;
+    public static final Duration HISTORY = Duration.ofDays(30);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MENU_GROUP_COUNT = 20;
+    private static final long PRODUCT_PRICE = 5_000;
+
+    private final List<Product> products = new ArrayList<>();
+    private final List<Menu> menus = new ArrayList<>();
+    private final List<OrderTable> orderTables = new ArrayList<>();
+    private MenuGroup menuGroup;
+    private OrderTable busyTable;
+    private OrderTable quietTable;
+
+    private CatalogFixture() {
+    }
+
+    static CatalogFixture seed(final ApplicationContext context) {
+        final CatalogFixture fixture = new CatalogFixture();
+        fixture.seedCatalog(context);
+        fixture.seedHistory(context);
+        return fixture;
+    }
+
+    public List<Product> products() {
+        return products;
+    }
+
+    public List<Menu> menus() {
+        return menus;
+    }
+
+    public List<OrderTable> orderTables() {
+        return orderTables;
+    }
+
+    public MenuGroup menuGroup() {
+        return menuGroup;
+    }
+
+    public OrderTable busyTable() {
+        return busyTable;
+    }
+
+    public OrderTable quietTable() {
+        return quietTable;
+    }
+
+    private void seedCatalog(final ApplicationContext context) {
+        final TimeOrderedIdGenerator idGenerator = context.getBean(TimeOrderedIdGenerator.class);
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(
+            context.getBean(PlatformTransactionManager.class)
+        );
+        final Random random = new Random(42);
+
+        final List<MenuGroup> menuGroups = new ArrayList<>();
+        for (int i = 0; i < MENU_GROUP_COUNT; i++) {
+            final MenuGroup group = new MenuGroup();
+            group.setId(idGenerator.generate());
+            group.setName("메뉴 그룹 " + i);
+            menuGroups.add(group);
+        }
+        transactionTemplate.executeWithoutResult(status -> context.getBean(MenuGroupRepository.class).saveAll(menuGroups));
+        menuGroup = menuGroups.get(0);
+
+        saveInBatches(transactionTemplate, size("products", 500), index -> {
+            final Product product = new Product();
+            product.setId(idGenerator.generate());
+            product.setName("상품 " + index);
+            product.setPrice(BigDecimal.valueOf(PRODUCT_PRICE));
+            return product;
+        }, batch -> products.addAll(context.getBean(ProductRepository.class).saveAll(batch)));
+
+        saveInBatches(transactionTemplate, size("menus", 1_000), index -> {
+            final List<MenuProduct> menuProducts = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS_PER_MENU; i++) {
+                final MenuProduct menuProduct = new MenuProduct();
+                menuProduct.setProduct(products.get(random.nextInt(products.size())));
+                menuProduct.setQuantity(1);
+                menuProducts.add(menuProduct);
+            }
+            final Menu menu = new Menu();
+            menu.setId(idGenerator.generate());
+            menu.setName("메뉴 " + index);
+            menu.setPrice(BigDecimal.valueOf(PRODUCT_PRICE * PRODUCTS_PER_MENU - 1_000));
+            menu.setMenuProductsPrice(BigDecimal.valueOf(PRODUCT_PRICE * PRODUCTS_PER_MENU));
+            menu.setMenuGroup(menuGroups.get(index % menuGroups.size()));
+            menu.setDisplayed(true);
+            menu.setMenuProducts(menuProducts);
+            return menu;
+        }, batch -> menus.addAll(context.getBean(MenuRepository.class).saveAll(batch)));
+
+        saveInBatches(transactionTemplate, size("tables", 200), index -> {
+            final OrderTable orderTable = new OrderTable();
+            orderTable.setId(idGenerator.generate());
+            orderTable.setName(index + "번");
+            orderTable.setNumberOfGuests(4);
+            orderTable.setOccupied(true);
+            return orderTable;
+        }, batch -> orderTables.addAll(context.getBean(OrderTableRepository.class).saveAll(batch)));
+        busyTable = orderTables.get(0);
+        quietTable = orderTables.get(1);
+    }
+
+    private void seedHistory(final ApplicationContext context) {
+        final TimeOrderedIdGenerator idGenerator = context.getBean(TimeOrderedIdGenerator.class);
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(
+            context.getBean(PlatformTransactionManager.class)
+        );
+        final OrderRepository orderRepository = context.getBean(OrderRepository.class);
+        final Random random = new Random(7);
+        final int orderCount = size("orders", 20_000);
+        final LocalDateTime start = LocalDateTime.now().minus(HISTORY);
+        saveInBatches(transactionTemplate, orderCount, index -> {
+            final List<OrderLineItem> orderLineItems = new ArrayList<>();
+            BigDecimal totalPrice = BigDecimal.ZERO;
+            for (int i = 0; i < LINES_PER_ORDER; i++) {
+                final Menu menu = menus.get(random.nextInt(menus.size()));
+                final OrderLineItem orderLineItem = new OrderLineItem();
+                orderLineItem.setMenu(menu);
+                orderLineItem.setQuantity(1 + random.nextInt(3));
+                orderLineItem.setPrice(menu.getPrice());
+                orderLineItems.add(orderLineItem);
+                totalPrice = totalPrice.add(menu.getPrice().multiply(BigDecimal.valueOf(orderLineItem.getQuantity())));
+            }
+            final Order order = new Order();
+            order.setId(idGenerator.generate());
+            order.setStatus(OrderStatus.COMPLETED);
+            // Spread evenly over the history, however many orders there are, so every order stays in the past.
+            order.setOrderDateTime(start.plus(HISTORY.multipliedBy(index).dividedBy(orderCount)));
+            order.setOrderLineItems(orderLineItems);
+            order.setTotalPrice(totalPrice);
+            if (index % 2 == 0) {
+                order.setType(OrderType.EAT_IN);
+                order.setOrderTable(index < 20 ? quietTable : busyTable);
+            } else {
+                order.setType(OrderType.TAKEOUT);
+            }
+            return order;
+        }, orderRepository::saveAll);
+    }
+
+    private static <T> void saveInBatches(
+        final TransactionTemplate transactionTemplate,
+        final int count,
+        final IntFunction<T> factory,
+        final Consumer<List<T>> saver
+    ) {
+        for (int from = 0; from < count; from += BATCH_SIZE) {
+            final List<T> batch = new ArrayList<>();
+            for (int index = from; index < Math.min(count, from + BATCH_SIZE); index++) {
+                batch.add(factory.apply(index));
+            }
+            transactionTemplate.executeWithoutResult(status -> saver.accept(batch));
+        }
+    }
+
+    private static int size(final String name, final int defaultSize) {
+        return Integer.getInteger("kitchenpos.bench." + name, defaultSize);
+    }
+}
@@ -0,0 +1,50 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.TimeOrderedIdGenerator;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuGroupRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inserts keyed by random version 4 ids with inserts keyed by time-ordered version 7 ids.
+ * The difference only shows against a clustered primary key, so run it with {@code -PbenchUrl} against MySQL.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+    private MenuGroupRepository menuGroupRepository;
+    private TimeOrderedIdGenerator idGenerator;
+
+    @Setup
+    public void setUp(final KitchenposContext context) {
+        menuGroupRepository = context.bean(MenuGroupRepository.class);
+        idGenerator = context.bean(TimeOrderedIdGenerator.class);
+    }
+
+    @Benchmark
+    public MenuGroup insertRandomId() {
+        return insert(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public MenuGroup insertTimeOrderedId() {
+        return insert(idGenerator.generate());
+    }
+
+    private MenuGroup insert(final UUID id) {
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(id);
+        menuGroup.setName("메뉴 그룹");
+        return menuGroupRepository.save(menuGroup);
+    }
+}
@@ -0,0 +1,71 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.Application;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Boots the application once per trial without a web server and seeds a catalog much larger than the default data.
+ * <p>
+ * By default it runs against embedded H2 in MySQL mode, migrated by Flyway like production so the schema and its
+ * secondary indexes come from the migrations alone. Pass
+ * {@code -PbenchUrl=jdbc:mysql://...} (and {@code benchUsername}/{@code benchPassword}) to run against a throwaway
+ * MySQL schema instead.
+ */
+@State(Scope.Benchmark)
+public class KitchenposContext {
+    private ConfigurableApplicationContext context;
+    private CatalogFixture catalog;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(Application.class)
+            .web(WebApplicationType.NONE)
+            .properties(properties())
+            .run();
+        catalog = CatalogFixture.seed(context);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public CatalogFixture catalog() {
+        return catalog;
+    }
+
+    private static Map<String, Object> properties() {
+        final Map<String, Object> properties = new HashMap<>();
+        final String url = System.getProperty("kitchenpos.bench.url", "");
+        if (url.isBlank()) {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            properties.put("spring.datasource.username", "sa");
+            properties.put("spring.datasource.password", "");
+            properties.put("kitchenpos.report.fetch-size", "1000");
+        } else {
+            properties.put("spring.datasource.url", url);
+            properties.put("spring.datasource.username", System.getProperty("kitchenpos.bench.username"));
+            properties.put("spring.datasource.password", System.getProperty("kitchenpos.bench.password"));
+        }
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("kitchenpos.delivery-dispatcher.enabled", "false");
+        properties.put("kitchenpos.profanity.filter", "local");
+        properties.put("kitchenpos.sql.slow-threshold", "1h");
+        return properties;
+    }
+}
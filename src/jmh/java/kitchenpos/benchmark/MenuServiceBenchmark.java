@@ -0,0 +1,71 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.MenuService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+    private static final BigDecimal LOWER_PRICE = BigDecimal.valueOf(15_000);
+    private static final BigDecimal HIGHER_PRICE = BigDecimal.valueOf(18_000);
+
+    private MenuService menuService;
+    private CatalogFixture catalog;
+
+    @Setup
+    public void setUp(final KitchenposContext context) {
+        menuService = context.bean(MenuService.class);
+        catalog = context.catalog();
+    }
+
+    @Benchmark
+    public Menu create(final SqlCounters counters) {
+        counters.operation();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<Product> products = catalog.products();
+        final int first = random.nextInt(products.size() - CatalogFixture.PRODUCTS_PER_MENU);
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < CatalogFixture.PRODUCTS_PER_MENU; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(products.get(first + i).getId());
+            menuProduct.setQuantity(1);
+            menuProducts.add(menuProduct);
+        }
+        final Menu request = new Menu();
+        request.setName("후라이드+양념");
+        request.setPrice(LOWER_PRICE);
+        request.setMenuGroupId(catalog.menuGroup().getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+        return menuService.create(request);
+    }
+
+    /**
+     * Alternates between two prices below the seeded menu products price so every call succeeds.
+     */
+    @Benchmark
+    public Menu changePrice(final SqlCounters counters) {
+        counters.operation();
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<Menu> menus = catalog.menus();
+        final Menu request = new Menu();
+        request.setPrice(random.nextBoolean() ? LOWER_PRICE : HIGHER_PRICE);
+        return menuService.changePrice(menus.get(random.nextInt(menus.size())).getId(), request);
+    }
+}
@@ -0,0 +1,36 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderReport;
+import kitchenpos.application.OrderReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans the whole seeded order history. Raise {@code -Pkitchenpos.bench.orders} to reproduce larger histories;
+ * each order has {@link CatalogFixture#LINES_PER_ORDER} lines, so {@code 3400000} orders give about 10 million lines.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class OrderReportBenchmark {
+    private OrderReportService orderReportService;
+
+    @Setup
+    public void setUp(final KitchenposContext context) {
+        orderReportService = context.bean(OrderReportService.class);
+    }
+
+    @Benchmark
+    public OrderReport reportWholeHistory() {
+        final LocalDateTime to = LocalDateTime.now();
+        return orderReportService.report(to.minus(CatalogFixture.HISTORY).minusDays(1), to, 10);
+    }
+}
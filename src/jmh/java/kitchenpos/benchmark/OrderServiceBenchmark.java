@@ -0,0 +1,82 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderStatusResult;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+    private OrderService orderService;
+    private OrderRepository orderRepository;
+    private CatalogFixture catalog;
+
+    @Setup
+    public void setUp(final KitchenposContext context) {
+        orderService = context.bean(OrderService.class);
+        orderRepository = context.bean(OrderRepository.class);
+        catalog = context.catalog();
+    }
+
+    @Benchmark
+    public Order createTakeout(final SqlCounters counters) {
+        counters.operation();
+        return orderService.create(Requests.order(catalog, OrderType.TAKEOUT));
+    }
+
+    @Benchmark
+    public Order createEatIn(final SqlCounters counters) {
+        counters.operation();
+        return orderService.create(Requests.order(catalog, OrderType.EAT_IN));
+    }
+
+    @Benchmark
+    public Order takeoutLifecycle(final SqlCounters counters) {
+        counters.operation();
+        final Order order = orderService.create(Requests.order(catalog, OrderType.TAKEOUT));
+        orderService.accept(order.getId());
+        orderService.serve(order.getId());
+        return orderService.complete(order.getId());
+    }
+
+    @Benchmark
+    public Order acceptServeHydrated(final SqlCounters counters) {
+        counters.operation();
+        final Order order = orderService.create(Requests.order(catalog, OrderType.TAKEOUT));
+        orderService.accept(order.getId());
+        return orderService.serve(order.getId());
+    }
+
+    @Benchmark
+    public OrderStatusResult acceptServeStatusOnly(final SqlCounters counters) {
+        counters.operation();
+        final Order order = orderService.create(Requests.order(catalog, OrderType.TAKEOUT));
+        orderService.acceptAndGetStatus(order.getId());
+        return orderService.serveAndGetStatus(order.getId());
+    }
+
+    @Benchmark
+    public boolean openOrdersOnBusyTable(final SqlCounters counters) {
+        counters.operation();
+        return orderRepository.existsByOrderTableAndStatusNot(catalog.busyTable(), OrderStatus.COMPLETED);
+    }
+
+    @Benchmark
+    public boolean openOrdersOnQuietTable(final SqlCounters counters) {
+        counters.operation();
+        return orderRepository.existsByOrderTableAndStatusNot(catalog.quietTable(), OrderStatus.COMPLETED);
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.application.ProductService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+    private static final BigDecimal[] PRICES = {BigDecimal.valueOf(5_500), BigDecimal.valueOf(5_000)};
+
+    private ProductService productService;
+    private UUID sharedProductId;
+    private int invocation;
+
+    /**
+     * Picks the product shared by the most menus, so each call recalculates as many menu prices as possible.
+     * Both prices are at or above the seeded one, so no menu is hidden along the way.
+     */
+    @Setup
+    public void setUp(final KitchenposContext context) {
+        productService = context.bean(ProductService.class);
+        sharedProductId = context.catalog().menus().stream()
+            .map(Menu::getMenuProducts)
+            .flatMap(menuProducts -> menuProducts.stream().map(MenuProduct::getProduct).map(Product::getId).distinct())
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+            .entrySet()
+            .stream()
+            .max(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+            .map(Map.Entry::getKey)
+            .orElseThrow();
+    }
+
+    @Benchmark
+    public Product changePriceOfSharedProduct(final SqlCounters counters) {
+        counters.operation();
+        final Product request = new Product();
+        request.setPrice(PRICES[invocation++ & 1]);
+        return productService.changePrice(sharedProductId, request);
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class Requests {
+    private Requests() {
+    }
+
+    static Order order(final CatalogFixture catalog, final OrderType type) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final List<Menu> menus = catalog.menus();
+        final Set<Menu> picked = new LinkedHashSet<>();
+        while (picked.size() < CatalogFixture.LINES_PER_ORDER) {
+            picked.add(menus.get(random.nextInt(menus.size())));
+        }
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : picked) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setQuantity(1 + random.nextInt(3));
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItems.add(orderLineItem);
+        }
+        final Order order = new Order();
+        order.setType(type);
+        order.setOrderLineItems(orderLineItems);
+        if (type == OrderType.DELIVERY) {
+            order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        }
+        if (type == OrderType.EAT_IN) {
+            final List<OrderTable> orderTables = catalog.orderTables();
+            order.setOrderTableId(orderTables.get(random.nextInt(orderTables.size())).getId());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,48 @@
+package kitchenpos.benchmark;
+
+import kitchenpos.infra.SqlMonitor;
+import kitchenpos.infra.SqlRequestStats;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Reports the number of JDBC statements and benchmark operations next to the primary score.
+ * Both are raw event counts that JMH sums over the measured iterations, so statements per operation is
+ * {@code statements / operations}. Benchmarks call {@link #operation()} once per invocation; statements are
+ * collected by {@link SqlMonitor} for the benchmark thread only, so work handed off to other threads is not counted.
+ */
+@AuxCounters(AuxCounters.Type.EVENTS)
+@State(Scope.Thread)
+public class SqlCounters {
+    private SqlMonitor sqlMonitor;
+    private SqlRequestStats stats;
+    private long operations;
+
+    @Setup(Level.Iteration)
+    public void begin(final KitchenposContext context) {
+        sqlMonitor = context.bean(SqlMonitor.class);
+        stats = sqlMonitor.begin();
+        operations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void end() {
+        sqlMonitor.end();
+    }
+
+    public void operation() {
+        operations++;
+    }
+
+    public long statements() {
+        return stats.getStatementCount();
+    }
+
+    public long operations() {
+        return operations;
+    }
+}
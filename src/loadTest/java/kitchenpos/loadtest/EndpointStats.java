@@ -0,0 +1,42 @@
+package kitchenpos.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and error count of one endpoint. Every sample is kept so that percentiles are exact.
+ */
+class EndpointStats {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+
+    synchronized void record(final long nanos, final boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize() {
+        final long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(count, errors, percentile(sorted, 0.50), percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1]);
+    }
+
+    private static long percentile(final long[] sorted, final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        final int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+
+    record Summary(int count, int errors, long p50Nanos, long p99Nanos, long maxNanos) {
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
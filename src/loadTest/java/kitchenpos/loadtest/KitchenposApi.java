@@ -0,0 +1,92 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Thin client for the REST API that times every call into a {@link LatencyReport}.
+ * Non-2xx responses and I/O failures count as errors and abort the current scenario step with {@link StepFailedException}.
+ */
+class KitchenposApi {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final LatencyReport report;
+
+    KitchenposApi(final String baseUrl, final ObjectMapper objectMapper, final LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.objectMapper = objectMapper;
+        this.report = report;
+    }
+
+    JsonNode get(final String endpoint, final String path) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    JsonNode post(final String endpoint, final String path, final Object body) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).POST(json(body)));
+    }
+
+    JsonNode put(final String endpoint, final String path, final Object body) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).PUT(json(body)));
+    }
+
+    JsonNode put(final String endpoint, final String path) {
+        return send(endpoint, HttpRequest.newBuilder(uri(path)).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private JsonNode send(final String endpoint, final HttpRequest.Builder builder) {
+        final HttpRequest request = builder
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .build();
+        final long start = System.nanoTime();
+        final HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (final IOException e) {
+            report.record(endpoint, System.nanoTime() - start, true);
+            throw new StepFailedException(endpoint + " failed", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException(endpoint + " interrupted", e);
+        }
+        final long elapsed = System.nanoTime() - start;
+        final boolean error = response.statusCode() / 100 != 2;
+        report.record(endpoint, elapsed, error);
+        if (error) {
+            throw new StepFailedException(endpoint + " returned " + response.statusCode());
+        }
+        try {
+            return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+        } catch (final JsonProcessingException e) {
+            throw new StepFailedException(endpoint + " returned an unreadable body", e);
+        }
+    }
+
+    private URI uri(final String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private HttpRequest.BodyPublisher json(final Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package kitchenpos.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects samples per endpoint, keyed by method and path template such as {@code PUT /api/orders/{orderId}/accept}.
+ */
+class LatencyReport {
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    void record(final String endpoint, final long nanos, final boolean error) {
+        endpoints.computeIfAbsent(endpoint, key -> new EndpointStats()).record(nanos, error);
+    }
+
+    void print(final PrintStream out, final Duration elapsed) {
+        final double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        out.printf("%-48s %9s %9s %8s %9s %9s %9s%n", "endpoint", "requests", "req/s", "errors", "p50(ms)", "p99(ms)", "max(ms)");
+        int totalCount = 0;
+        int totalErrors = 0;
+        for (final Map.Entry<String, EndpointStats> entry : new TreeMap<>(endpoints).entrySet()) {
+            final EndpointStats.Summary summary = entry.getValue().summarize();
+            out.printf(
+                "%-48s %9d %9.1f %7.2f%% %9.1f %9.1f %9.1f%n",
+                entry.getKey(),
+                summary.count(),
+                summary.count() / seconds,
+                summary.errorRate() * 100,
+                millis(summary.p50Nanos()),
+                millis(summary.p99Nanos()),
+                millis(summary.maxNanos())
+            );
+            totalCount += summary.count();
+            totalErrors += summary.errors();
+        }
+        out.printf(
+            "%d requests in %.1f s, %.1f req/s, %d errors (%.2f%%)%n",
+            totalCount,
+            seconds,
+            totalCount / seconds,
+            totalErrors,
+            totalCount == 0 ? 0 : totalErrors * 100.0 / totalCount
+        );
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Runs {@link RestaurantDay} and prints request rate, error rate and p50/p99 latency per endpoint.
+ * <p>
+ * Without {@code kitchenpos.load-test.base-url} the application is started in-process on a random port against
+ * embedded H2 in MySQL mode, with Kitchenriders and PurgoMalum replaced by {@link LocalClientsConfig}.
+ * With it, the scenario targets an already running server, whose outbound clients are then its own concern.
+ * <pre>
+ * ./gradlew loadTest -Pkitchenpos.load-test.concurrency=64 -Pkitchenpos.load-test.duration=5m
+ * </pre>
+ */
+public class LoadTestRunner {
+    public static void main(final String[] args) throws InterruptedException {
+        final LoadTestSettings settings = LoadTestSettings.from(new StandardEnvironment());
+        ConfigurableApplicationContext context = null;
+        String baseUrl = settings.baseUrl();
+        if (settings.embedded()) {
+            context = new SpringApplicationBuilder(Application.class, LocalClientsConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(embeddedProperties())
+                .run(args);
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+        try {
+            final LatencyReport report = new LatencyReport();
+            final RestaurantDay day = new RestaurantDay(new KitchenposApi(baseUrl, new ObjectMapper(), report), settings);
+            day.open();
+            final Duration elapsed = day.run();
+            System.out.printf(
+                "%s, concurrency %d, hydrate %s: %d journeys completed, %d failed%n",
+                baseUrl,
+                settings.concurrency(),
+                settings.hydrate(),
+                day.completedJourneys(),
+                day.failedJourneys()
+            );
+            report.print(System.out, elapsed);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static Map<String, Object> embeddedProperties() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:load-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.flyway.enabled", "false");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.main.allow-bean-definition-overriding", "true");
+        properties.put("kitchenpos.profanity.filter", "purgomalum");
+        properties.put("kitchenpos.report.fetch-size", "1000");
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Scenario settings, read from {@code kitchenpos.load-test.*} properties.
+ * Gradle forwards every {@code -Pkitchenpos.load-test.*} project property as a system property.
+ */
+record LoadTestSettings(
+    String baseUrl,
+    int concurrency,
+    Duration duration,
+    int products,
+    int menus,
+    int tables,
+    int eatInWeight,
+    int takeoutWeight,
+    int deliveryWeight,
+    Duration thinkTime,
+    boolean hydrate,
+    Duration stubLatency,
+    double stubFailureRate
+) {
+    private static final String PREFIX = "kitchenpos.load-test.";
+
+    static LoadTestSettings from(final Environment environment) {
+        return new LoadTestSettings(
+            environment.getProperty(PREFIX + "base-url", ""),
+            environment.getProperty(PREFIX + "concurrency", Integer.class, 16),
+            duration(environment, "duration", "60s"),
+            environment.getProperty(PREFIX + "products", Integer.class, 60),
+            environment.getProperty(PREFIX + "menus", Integer.class, 30),
+            environment.getProperty(PREFIX + "tables", Integer.class, 40),
+            environment.getProperty(PREFIX + "eat-in-weight", Integer.class, 5),
+            environment.getProperty(PREFIX + "takeout-weight", Integer.class, 3),
+            environment.getProperty(PREFIX + "delivery-weight", Integer.class, 2),
+            duration(environment, "think-time", "0ms"),
+            environment.getProperty(PREFIX + "hydrate", Boolean.class, true),
+            duration(environment, "stub-latency", "50ms"),
+            environment.getProperty(PREFIX + "stub-failure-rate", Double.class, 0.0)
+        );
+    }
+
+    /**
+     * Parses durations the way Spring Boot binds them, such as {@code 5m} or {@code PT5M};
+     * a plain {@link Environment} has no converter from text to {@link Duration}.
+     */
+    private static Duration duration(final Environment environment, final String name, final String defaultValue) {
+        return DurationStyle.detectAndParse(environment.getProperty(PREFIX + name, defaultValue));
+    }
+
+    boolean embedded() {
+        return baseUrl.isBlank();
+    }
+}
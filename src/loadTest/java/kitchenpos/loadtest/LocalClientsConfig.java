@@ -0,0 +1,52 @@
+package kitchenpos.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.OutboundClientSettings;
+import kitchenpos.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Replaces the outbound clients with local stand-ins under the same bean names, so the embedded application
+ * never calls Kitchenriders or PurgoMalum while the rest of the wiring, including the caching profanity filter,
+ * stays as in production. The simulated latency and failures run inside each client's {@code OutboundClientGuard},
+ * so they exercise the call timeout, bulkhead, circuit breaker, fallback policy and client metrics.
+ */
+@Configuration(proxyBeanMethods = false)
+class LocalClientsConfig {
+    @Bean
+    KitchenridersClient kitchenridersClient(
+        @Qualifier("kitchenridersSettings") final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.load-test.stub-latency:50ms}") final Duration latency,
+        @Value("${kitchenpos.load-test.stub-failure-rate:0.0}") final double failureRate
+    ) {
+        return new LocalKitchenridersClient(
+            settings,
+            meterRegistry,
+            new SimulatedRemote("kitchenriders", latency, failureRate)
+        );
+    }
+
+    @Bean
+    PurgomalumClient purgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Qualifier("purgomalumSettings") final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.load-test.stub-latency:50ms}") final Duration latency,
+        @Value("${kitchenpos.load-test.stub-failure-rate:0.0}") final double failureRate
+    ) {
+        return new LocalPurgomalumClient(
+            restTemplateBuilder,
+            settings,
+            meterRegistry,
+            new SimulatedRemote("purgomalum", latency, failureRate)
+        );
+    }
+}
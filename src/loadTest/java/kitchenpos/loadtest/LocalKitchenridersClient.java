@@ -0,0 +1,26 @@
+package kitchenpos.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.OutboundClientSettings;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+class LocalKitchenridersClient extends KitchenridersClient {
+    private final SimulatedRemote remote;
+
+    LocalKitchenridersClient(
+        final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry,
+        final SimulatedRemote remote
+    ) {
+        super(settings, meterRegistry);
+        this.remote = remote;
+    }
+
+    @Override
+    protected void send(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        remote.call();
+    }
+}
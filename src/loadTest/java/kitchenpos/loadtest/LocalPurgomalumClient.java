@@ -0,0 +1,28 @@
+package kitchenpos.loadtest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.infra.OutboundClientSettings;
+import kitchenpos.infra.PurgomalumClient;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.net.URI;
+
+class LocalPurgomalumClient extends PurgomalumClient {
+    private final SimulatedRemote remote;
+
+    LocalPurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry,
+        final SimulatedRemote remote
+    ) {
+        super(restTemplateBuilder, settings, meterRegistry);
+        this.remote = remote;
+    }
+
+    @Override
+    protected String send(final URI url) {
+        remote.call();
+        return "false";
+    }
+}
@@ -0,0 +1,212 @@
+package kitchenpos.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replays a restaurant day: sets up a catalog and tables, then runs {@code concurrency} guests in parallel until
+ * {@code duration} elapses. Each guest browses the menus, then places an EAT_IN, TAKEOUT or DELIVERY order by weight
+ * and moves it through every status. EAT_IN guests take a free table, seat themselves and clear the table afterwards;
+ * when every table is taken they order takeout instead.
+ */
+class RestaurantDay {
+    private static final long PRODUCT_PRICE = 8_000;
+    private static final int PRODUCTS_PER_MENU = 2;
+    private static final int MAX_LINES_PER_ORDER = 3;
+
+    private final KitchenposApi api;
+    private final LoadTestSettings settings;
+    private final List<JsonNode> menus = new ArrayList<>();
+    private final BlockingQueue<UUID> freeTables = new LinkedBlockingQueue<>();
+    private final LongAdder completedJourneys = new LongAdder();
+    private final LongAdder failedJourneys = new LongAdder();
+
+    RestaurantDay(final KitchenposApi api, final LoadTestSettings settings) {
+        this.api = api;
+        this.settings = settings;
+    }
+
+    void open() {
+        final UUID menuGroupId = id(api.post("POST /api/menu-groups", "/api/menu-groups", Map.of("name", "부하 테스트")));
+        final List<UUID> productIds = new ArrayList<>();
+        for (int i = 0; i < settings.products(); i++) {
+            productIds.add(id(api.post(
+                "POST /api/products",
+                "/api/products",
+                Map.of("name", "상품 " + i, "price", PRODUCT_PRICE)
+            )));
+        }
+        for (int i = 0; i < settings.menus(); i++) {
+            final List<Map<String, Object>> menuProducts = new ArrayList<>();
+            for (int j = 0; j < PRODUCTS_PER_MENU; j++) {
+                menuProducts.add(Map.of("productId", productIds.get((i + j) % productIds.size()), "quantity", 1));
+            }
+            menus.add(api.post("POST /api/menus", "/api/menus", Map.of(
+                "name", "메뉴 " + i,
+                "price", PRODUCT_PRICE * PRODUCTS_PER_MENU - 1_000,
+                "menuGroupId", menuGroupId,
+                "displayed", true,
+                "menuProducts", menuProducts
+            )));
+        }
+        for (int i = 0; i < settings.tables(); i++) {
+            freeTables.add(id(api.post("POST /api/order-tables", "/api/order-tables", Map.of("name", i + "번"))));
+        }
+    }
+
+    Duration run() throws InterruptedException {
+        final long start = System.nanoTime();
+        final long deadline = start + settings.duration().toNanos();
+        try (final ExecutorService guests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                guests.submit(() -> {
+                    while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                        visit();
+                    }
+                });
+            }
+            guests.shutdown();
+            if (!guests.awaitTermination(settings.duration().toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS)) {
+                guests.shutdownNow();
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    long completedJourneys() {
+        return completedJourneys.sum();
+    }
+
+    long failedJourneys() {
+        return failedJourneys.sum();
+    }
+
+    private void visit() {
+        try {
+            api.get("GET /api/menus", "/api/menus");
+            final int total = settings.eatInWeight() + settings.takeoutWeight() + settings.deliveryWeight();
+            final int pick = ThreadLocalRandom.current().nextInt(Math.max(total, 1));
+            if (pick < settings.eatInWeight()) {
+                eatIn();
+            } else if (pick < settings.eatInWeight() + settings.takeoutWeight()) {
+                takeout();
+            } else {
+                delivery();
+            }
+            completedJourneys.increment();
+        } catch (final StepFailedException e) {
+            failedJourneys.increment();
+        }
+    }
+
+    private void eatIn() {
+        final UUID orderTableId = freeTables.poll();
+        if (orderTableId == null) {
+            takeout();
+            return;
+        }
+        try {
+            final String table = "/api/order-tables/" + orderTableId;
+            api.put("PUT /api/order-tables/{orderTableId}/sit", table + "/sit");
+            pause();
+            api.put(
+                "PUT /api/order-tables/{orderTableId}/number-of-guests",
+                table + "/number-of-guests",
+                Map.of("numberOfGuests", 1 + ThreadLocalRandom.current().nextInt(6))
+            );
+            final Map<String, Object> request = order("EAT_IN");
+            request.put("orderTableId", orderTableId);
+            final UUID orderId = id(api.post("POST /api/orders", "/api/orders", request));
+            accept(orderId);
+            serve(orderId);
+            complete(orderId);
+            api.put("PUT /api/order-tables/{orderTableId}/clear", table + "/clear");
+        } finally {
+            freeTables.add(orderTableId);
+        }
+    }
+
+    private void takeout() {
+        final UUID orderId = id(api.post("POST /api/orders", "/api/orders", order("TAKEOUT")));
+        accept(orderId);
+        serve(orderId);
+        complete(orderId);
+    }
+
+    private void delivery() {
+        final Map<String, Object> request = order("DELIVERY");
+        request.put("deliveryAddress", "서울시 송파구 위례성대로 2");
+        final UUID orderId = id(api.post("POST /api/orders", "/api/orders", request));
+        accept(orderId);
+        serve(orderId);
+        final String order = "/api/orders/" + orderId;
+        api.put("PUT /api/orders/{orderId}/start-delivery", order + "/start-delivery");
+        pause();
+        api.put("PUT /api/orders/{orderId}/complete-delivery", order + "/complete-delivery");
+        complete(orderId);
+    }
+
+    private void accept(final UUID orderId) {
+        pause();
+        api.put("PUT /api/orders/{orderId}/accept", "/api/orders/" + orderId + "/accept?hydrate=" + settings.hydrate());
+    }
+
+    private void serve(final UUID orderId) {
+        pause();
+        api.put("PUT /api/orders/{orderId}/serve", "/api/orders/" + orderId + "/serve?hydrate=" + settings.hydrate());
+    }
+
+    private void complete(final UUID orderId) {
+        pause();
+        api.put("PUT /api/orders/{orderId}/complete", "/api/orders/" + orderId + "/complete");
+    }
+
+    private Map<String, Object> order(final String type) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Map<UUID, Map<String, Object>> lines = new LinkedHashMap<>();
+        final int lineCount = 1 + random.nextInt(MAX_LINES_PER_ORDER);
+        while (lines.size() < Math.min(lineCount, menus.size())) {
+            final JsonNode menu = menus.get(random.nextInt(menus.size()));
+            lines.put(id(menu), Map.of(
+                "menuId", id(menu),
+                "price", new BigDecimal(menu.get("price").asText()),
+                "quantity", 1 + random.nextInt(3)
+            ));
+        }
+        final Map<String, Object> request = new LinkedHashMap<>();
+        request.put("type", type);
+        request.put("orderLineItems", new ArrayList<>(lines.values()));
+        return request;
+    }
+
+    private void pause() {
+        final Duration thinkTime = settings.thinkTime();
+        if (thinkTime.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(thinkTime);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StepFailedException("guest interrupted", e);
+        }
+    }
+
+    private static UUID id(final JsonNode node) {
+        return UUID.fromString(node.get("id").asText());
+    }
+}
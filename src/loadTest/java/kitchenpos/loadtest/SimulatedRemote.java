@@ -0,0 +1,36 @@
+package kitchenpos.loadtest;
+
+import kitchenpos.infra.ClientUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stands in for a remote service: waits for a latency jittered by up to 50% and fails a fraction of the calls.
+ */
+class SimulatedRemote {
+    private final String name;
+    private final long latencyNanos;
+    private final double failureRate;
+
+    SimulatedRemote(final String name, final Duration latency, final double failureRate) {
+        this.name = name;
+        this.latencyNanos = latency.toNanos();
+        this.failureRate = failureRate;
+    }
+
+    void call() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (latencyNanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(latencyNanos + random.nextLong(latencyNanos / 2 + 1)));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ClientUnavailableException(name + " call interrupted", e);
+            }
+        }
+        if (random.nextDouble() < failureRate) {
+            throw new ClientUnavailableException(name + " simulated failure");
+        }
+    }
+}
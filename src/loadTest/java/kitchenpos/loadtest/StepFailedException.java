@@ -0,0 +1,11 @@
+package kitchenpos.loadtest;
+
+class StepFailedException extends RuntimeException {
+    StepFailedException(final String message) {
+        super(message);
+    }
+
+    StepFailedException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
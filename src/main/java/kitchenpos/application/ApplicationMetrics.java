@@ -0,0 +1,71 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.infra.CachingProfanityFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the in-process state of the menu catalog cache, the order status feed and, when the
+ * Purgomalum filter is enabled, the profanity verdict cache.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+    private final MenuCatalogCache menuCatalogCache;
+    private final OrderStatusFeed orderStatusFeed;
+    private final ObjectProvider<CachingProfanityFilter> profanityFilter;
+
+    public ApplicationMetrics(
+        final MenuCatalogCache menuCatalogCache,
+        final OrderStatusFeed orderStatusFeed,
+        final ObjectProvider<CachingProfanityFilter> profanityFilter
+    ) {
+        this.menuCatalogCache = menuCatalogCache;
+        this.orderStatusFeed = orderStatusFeed;
+        this.profanityFilter = profanityFilter;
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("kitchenpos.menu.catalog.requests", menuCatalogCache,
+                cache -> cache.stats().hitCount())
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.menu.catalog.requests", menuCatalogCache,
+                cache -> cache.stats().missCount())
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.menu.catalog.evictions", menuCatalogCache,
+                cache -> cache.stats().evictionCount())
+            .register(registry);
+        Gauge.builder("kitchenpos.menu.catalog.size", menuCatalogCache, cache -> cache.stats().size())
+            .register(registry);
+        Gauge.builder("kitchenpos.order.feed.subscribers", orderStatusFeed, OrderStatusFeed::subscriberCount)
+            .register(registry);
+        profanityFilter.ifAvailable(filter -> bindProfanityCache(filter, registry));
+    }
+
+    private void bindProfanityCache(final CachingProfanityFilter profanityFilter, final MeterRegistry registry) {
+        FunctionCounter.builder("kitchenpos.profanity.cache.requests", profanityFilter,
+                filter -> filter.stats().hitCount())
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.profanity.cache.requests", profanityFilter,
+                filter -> filter.stats().missCount())
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.profanity.cache.coalesced", profanityFilter,
+                filter -> filter.stats().coalescedCount())
+            .register(registry);
+        FunctionTimer.builder("kitchenpos.profanity.remote.calls", profanityFilter,
+                filter -> filter.stats().remoteCallCount(),
+                filter -> filter.stats().totalRemoteCallTime().toNanos(),
+                TimeUnit.NANOSECONDS)
+            .register(registry);
+    }
+}
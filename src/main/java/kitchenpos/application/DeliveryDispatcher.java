@@ -0,0 +1,136 @@
+package kitchenpos.application;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the {@code delivery_request} outbox written by {@link OrderService#accept}.
+ * <p>
+ * Each due request is claimed with a conditional update, so a request is sent by one dispatcher at a time,
+ * then sent on its own virtual thread. Failed requests are retried with exponential backoff
+ * until {@code max-attempts} is reached. The order id is passed to the rider service as the idempotency key.
+ */
+@Component
+public class DeliveryDispatcher {
+    private static final int MAX_ERROR_LENGTH = 255;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final boolean enabled;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration leaseTimeout;
+    private final int maxAttempts;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DeliveryDispatcher(
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final KitchenridersClient kitchenridersClient,
+        @Value("${kitchenpos.delivery-dispatcher.enabled:true}") final boolean enabled,
+        @Value("${kitchenpos.delivery-dispatcher.base-delay:1s}") final Duration baseDelay,
+        @Value("${kitchenpos.delivery-dispatcher.max-delay:5m}") final Duration maxDelay,
+        @Value("${kitchenpos.delivery-dispatcher.lease-timeout:30s}") final Duration leaseTimeout,
+        @Value("${kitchenpos.delivery-dispatcher.max-attempts:10}") final int maxAttempts
+    ) {
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.enabled = enabled;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.leaseTimeout = leaseTimeout;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery-dispatcher.poll-interval:1000}")
+    public void poll() {
+        if (enabled) {
+            dispatchPending();
+        }
+    }
+
+    public int dispatchPending() {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<DeliveryRequest> deliveryRequests = deliveryRequestRepository
+            .findTop100ByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(DeliveryRequestStatus.PENDING, now);
+        final List<Future<?>> dispatches = new ArrayList<>();
+        for (final DeliveryRequest deliveryRequest : deliveryRequests) {
+            if (deliveryRequestRepository.claim(deliveryRequest.getOrderId(), now, now.plus(leaseTimeout)) == 1) {
+                dispatches.add(executor.submit(() -> dispatch(deliveryRequest)));
+            }
+        }
+        for (final Future<?> dispatch : dispatches) {
+            try {
+                dispatch.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (final ExecutionException ignored) {
+                // a failed dispatch keeps its lease and is picked up again once the lease expires
+            }
+        }
+        return dispatches.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void dispatch(final DeliveryRequest deliveryRequest) {
+        final int attempts = deliveryRequest.getAttempts() + 1;
+        try {
+            kitchenridersClient.requestDelivery(
+                deliveryRequest.getOrderId(),
+                deliveryRequest.getAmount(),
+                deliveryRequest.getDeliveryAddress()
+            );
+            deliveryRequestRepository.updateStatus(
+                deliveryRequest.getOrderId(),
+                DeliveryRequestStatus.SENT,
+                LocalDateTime.now(),
+                null
+            );
+        } catch (final RuntimeException e) {
+            final DeliveryRequestStatus status = attempts >= maxAttempts
+                ? DeliveryRequestStatus.FAILED
+                : DeliveryRequestStatus.PENDING;
+            deliveryRequestRepository.updateStatus(
+                deliveryRequest.getOrderId(),
+                status,
+                LocalDateTime.now().plus(backoff(attempts)),
+                truncate(String.valueOf(e))
+            );
+        }
+    }
+
+    private Duration backoff(final int attempts) {
+        final Duration delay = baseDelay.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        if (delay.compareTo(maxDelay) > 0) {
+            return maxDelay;
+        }
+        return delay;
+    }
+
+    private String truncate(final String error) {
+        if (error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,130 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Read-through cache of the menu catalog.
+ * <p>
+ * Cached menus are detached with their menu group and menu products fetched, and must be treated as read-only.
+ * Each {@link #invalidate()} swaps in an empty generation once the surrounding transaction commits,
+ * so readers never observe a half-updated catalog.
+ */
+@Component
+public class MenuCatalogCache {
+    private final MenuRepository menuRepository;
+    private final int maximumSize;
+    private final AtomicReference<Generation> generation;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MenuCatalogCache(
+        final MenuRepository menuRepository,
+        @Value("${kitchenpos.menu-catalog.maximum-size:1000}") final int maximumSize
+    ) {
+        this.menuRepository = menuRepository;
+        this.maximumSize = maximumSize;
+        this.generation = new AtomicReference<>(new Generation());
+    }
+
+    public List<Menu> findAll() {
+        final Generation current = generation.get();
+        final List<Menu> cached = current.menus;
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final List<Menu> menus = menuRepository.findAllWithMenuProducts();
+        if (menus.size() <= maximumSize) {
+            current.menus = Collections.unmodifiableList(menus);
+        }
+        current.putAll(menus);
+        return menus;
+    }
+
+    public Map<UUID, Menu> findAllByIdIn(final List<UUID> menuIds) {
+        final Generation current = generation.get();
+        final Map<UUID, Menu> found = new HashMap<>();
+        final List<UUID> missingIds = new ArrayList<>();
+        for (final UUID menuId : menuIds) {
+            final Menu menu = current.get(menuId);
+            if (menu == null) {
+                missingIds.add(menuId);
+                continue;
+            }
+            found.put(menuId, menu);
+        }
+        hits.add(found.size());
+        if (missingIds.isEmpty()) {
+            return found;
+        }
+        misses.add(missingIds.size());
+        final List<Menu> menus = menuRepository.findAllWithMenuProductsByIdIn(missingIds);
+        current.putAll(menus);
+        for (final Menu menu : menus) {
+            found.put(menu.getId(), menu);
+        }
+        return found;
+    }
+
+    public void invalidate() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generation.set(new Generation());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generation.set(new Generation());
+            }
+        });
+    }
+
+    public MenuCatalogStats stats() {
+        return new MenuCatalogStats(hits.sum(), misses.sum(), evictions.sum(), generation.get().size());
+    }
+
+    private class Generation {
+        private final Map<UUID, Menu> menusById = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, Menu> eldest) {
+                if (size() > maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        private volatile List<Menu> menus;
+
+        private synchronized Menu get(final UUID menuId) {
+            return menusById.get(menuId);
+        }
+
+        private synchronized void putAll(final List<Menu> menus) {
+            for (final Menu menu : menus) {
+                menusById.put(menu.getId(), menu);
+            }
+        }
+
+        private synchronized int size() {
+            return menusById.size();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.application;
+
+public record MenuCatalogStats(long hitCount, long missCount, long evictionCount, int size) {
+    public double hitRatio() {
+        final long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) hitCount / requestCount;
+    }
+}
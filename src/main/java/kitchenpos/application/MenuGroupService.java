@@ -7,14 +7,18 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final TimeOrderedIdGenerator idGenerator;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        final MenuGroupRepository menuGroupRepository,
+        final TimeOrderedIdGenerator idGenerator
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -24,7 +28,7 @@ public class MenuGroupService {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = new MenuGroup();
-        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setId(idGenerator.generate());
         menuGroup.setName(name);
         return menuGroupRepository.save(menuGroup);
     }
@@ -7,7 +7,7 @@ import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
-import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.ProfanityFilter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,18 +23,24 @@ public class MenuService {
     private final MenuRepository menuRepository;
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProfanityFilter profanityFilter;
+    private final MenuCatalogCache menuCatalogCache;
+    private final TimeOrderedIdGenerator idGenerator;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final ProfanityFilter profanityFilter,
+        final MenuCatalogCache menuCatalogCache,
+        final TimeOrderedIdGenerator idGenerator
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.profanityFilter = profanityFilter;
+        this.menuCatalogCache = menuCatalogCache;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -79,16 +85,18 @@ public class MenuService {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name) || profanityFilter.containsProfanity(name)) {
             throw new IllegalArgumentException();
         }
         final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
+        menu.setId(idGenerator.generate());
         menu.setName(name);
         menu.setPrice(price);
+        menu.setMenuProductsPrice(sum);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
+        menuCatalogCache.invalidate();
         return menuRepository.save(menu);
     }
 
@@ -98,20 +106,13 @@ public class MenuService {
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        BigDecimal sum = BigDecimal.ZERO;
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        if (price.compareTo(menu.getMenuProductsPrice()) > 0) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        menuCatalogCache.invalidate();
         return menu;
     }
 
@@ -119,18 +120,11 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        if (menu.getPrice().compareTo(menu.getMenuProductsPrice()) > 0) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        menuCatalogCache.invalidate();
         return menu;
     }
 
@@ -139,11 +133,12 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        menuCatalogCache.invalidate();
         return menu;
     }
 
     @Transactional(readOnly = true)
     public List<Menu> findAll() {
-        return menuRepository.findAll();
+        return menuCatalogCache.findAll();
     }
 }
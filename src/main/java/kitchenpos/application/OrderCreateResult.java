@@ -0,0 +1,13 @@
+package kitchenpos.application;
+
+import java.util.UUID;
+
+public record OrderCreateResult(int index, boolean created, UUID orderId, String error) {
+    public static OrderCreateResult success(final int index, final UUID orderId) {
+        return new OrderCreateResult(index, true, orderId, null);
+    }
+
+    public static OrderCreateResult failure(final int index, final RuntimeException exception) {
+        return new OrderCreateResult(index, false, null, exception.getClass().getSimpleName());
+    }
+}
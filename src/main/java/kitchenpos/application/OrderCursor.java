@@ -0,0 +1,37 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+public record OrderCursor(LocalDateTime orderDateTime, UUID id) {
+    private static final String SEPARATOR = "|";
+
+    public static OrderCursor of(final Order order) {
+        return new OrderCursor(order.getOrderDateTime(), order.getId());
+    }
+
+    public static OrderCursor decode(final String cursor) {
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decoded.indexOf(SEPARATOR);
+            return new OrderCursor(
+                LocalDateTime.parse(decoded.substring(0, separatorIndex)),
+                UUID.fromString(decoded.substring(separatorIndex + 1))
+            );
+        } catch (final IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String encode() {
+        final String raw = orderDateTime + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,8 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.util.List;
+
+public record OrderPage(List<Order> orders, String nextCursor) {
+}
@@ -0,0 +1,25 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record OrderReport(
+    LocalDateTime from,
+    LocalDateTime to,
+    List<MenuRow> topMenus,
+    List<OrderTypeRow> orderTypes,
+    GuestRow guests
+) {
+    public record MenuRow(UUID menuId, String name, long quantity, BigDecimal revenue) {
+    }
+
+    public record OrderTypeRow(OrderType type, long orderCount, BigDecimal revenue, BigDecimal averageTicket) {
+    }
+
+    public record GuestRow(long eatInOrders, long eatInTables) {
+    }
+}
@@ -0,0 +1,238 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Ad-hoc reports over completed orders, read straight from JDBC without hydrating entities.
+ * <p>
+ * The requested range is split into {@code parallelism} time slices. Each slice streams its line items through a
+ * forward-only cursor on its own connection into an array-backed accumulator keyed by menu, and the accumulators
+ * are merged at the end. Heap use is bounded by the number of menus, not the number of line items.
+ */
+@Service
+public class OrderReportService {
+    public static final int MAX_TOP = 100;
+
+    private static final String LINE_ITEMS_SQL = "select o.type, li.menu_id, li.quantity, li.price * 100 as price_cents"
+        + " from orders o"
+        + " join order_line_item li on li.order_id = o.id"
+        + " where o.status = 'COMPLETED' and o.order_date_time >= ? and o.order_date_time < ?";
+    private static final String ORDER_COUNTS_SQL = "select o.type, count(*) from orders o"
+        + " where o.status = 'COMPLETED' and o.order_date_time >= ? and o.order_date_time < ?"
+        + " group by o.type";
+    private static final String EAT_IN_TABLES_SQL = "select count(distinct o.order_table_id) from orders o"
+        + " where o.status = 'COMPLETED' and o.type = 'EAT_IN' and o.order_date_time >= ? and o.order_date_time < ?";
+    private static final BigDecimal CENTS = BigDecimal.valueOf(100);
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MenuRepository menuRepository;
+    private final int parallelism;
+    private final int fetchSize;
+
+    public OrderReportService(
+        final JdbcTemplate jdbcTemplate,
+        final MenuRepository menuRepository,
+        @Value("${kitchenpos.report.parallelism:4}") final int parallelism,
+        @Value("${kitchenpos.report.fetch-size:1000}") final int fetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.menuRepository = menuRepository;
+        this.parallelism = parallelism;
+        this.fetchSize = fetchSize;
+    }
+
+    public OrderReport report(final LocalDateTime from, final LocalDateTime to, final int top) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+        if (top < 1 || top > MAX_TOP) {
+            throw new IllegalArgumentException();
+        }
+        final Accumulator total = new Accumulator();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<Accumulator>> slices = slice(from, to).stream()
+                .map(slice -> executor.submit(() -> accumulate(slice[0], slice[1])))
+                .toList();
+            for (final Future<Accumulator> slice : slices) {
+                total.merge(slice.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        final long[] orderCounts = orderCounts(from, to);
+        return new OrderReport(
+            from,
+            to,
+            topMenus(total, top),
+            orderTypes(total, orderCounts),
+            guests(from, to, orderCounts[OrderType.EAT_IN.ordinal()])
+        );
+    }
+
+    private List<LocalDateTime[]> slice(final LocalDateTime from, final LocalDateTime to) {
+        final long totalNanos = Duration.between(from, to).toNanos();
+        final int count = (int) Math.max(1, Math.min(parallelism, totalNanos));
+        final List<LocalDateTime[]> slices = new ArrayList<>(count);
+        LocalDateTime start = from;
+        for (int i = 1; i <= count; i++) {
+            final LocalDateTime end = i == count ? to : from.plusNanos(totalNanos / count * i);
+            slices.add(new LocalDateTime[]{start, end});
+            start = end;
+        }
+        return slices;
+    }
+
+    private Accumulator accumulate(final LocalDateTime from, final LocalDateTime to) {
+        final Accumulator accumulator = new Accumulator();
+        jdbcTemplate.query(
+            connection -> {
+                final PreparedStatement statement = connection.prepareStatement(
+                    LINE_ITEMS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY
+                );
+                statement.setFetchSize(fetchSize);
+                statement.setObject(1, from);
+                statement.setObject(2, to);
+                return statement;
+            },
+            (RowCallbackHandler) resultSet -> accumulator.add(
+                OrderType.valueOf(resultSet.getString(1)),
+                resultSet.getBytes(2),
+                resultSet.getLong(3),
+                resultSet.getLong(4)
+            )
+        );
+        return accumulator;
+    }
+
+    private List<OrderReport.MenuRow> topMenus(final Accumulator total, final int top) {
+        final UUID[] menuIds = total.menus.keys();
+        final List<Integer> ranked = IntStream.range(0, menuIds.length)
+            .boxed()
+            .sorted(Comparator.comparingLong((Integer index) -> total.menuRevenueCents[index]).reversed())
+            .limit(top)
+            .toList();
+        final Map<UUID, String> names = menuRepository.findAllByIdIn(
+                ranked.stream()
+                    .map(index -> menuIds[index])
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Menu::getName));
+        return ranked.stream()
+            .map(index -> new OrderReport.MenuRow(
+                menuIds[index],
+                names.get(menuIds[index]),
+                total.menuQuantities[index],
+                toAmount(total.menuRevenueCents[index])
+            ))
+            .toList();
+    }
+
+    private long[] orderCounts(final LocalDateTime from, final LocalDateTime to) {
+        final long[] orderCounts = new long[ORDER_TYPES.length];
+        jdbcTemplate.query(
+            ORDER_COUNTS_SQL,
+            (RowCallbackHandler) resultSet ->
+                orderCounts[OrderType.valueOf(resultSet.getString(1)).ordinal()] = resultSet.getLong(2),
+            from,
+            to
+        );
+        return orderCounts;
+    }
+
+    private List<OrderReport.OrderTypeRow> orderTypes(final Accumulator total, final long[] orderCounts) {
+        return Arrays.stream(ORDER_TYPES)
+            .map(type -> {
+                final long orderCount = orderCounts[type.ordinal()];
+                final BigDecimal revenue = toAmount(total.typeRevenueCents[type.ordinal()]);
+                final BigDecimal averageTicket = orderCount == 0
+                    ? BigDecimal.ZERO
+                    : revenue.divide(BigDecimal.valueOf(orderCount), 2, RoundingMode.HALF_UP);
+                return new OrderReport.OrderTypeRow(type, orderCount, revenue, averageTicket);
+            })
+            .toList();
+    }
+
+    private OrderReport.GuestRow guests(final LocalDateTime from, final LocalDateTime to, final long eatInOrders) {
+        final Long eatInTables = jdbcTemplate.queryForObject(EAT_IN_TABLES_SQL, Long.class, from, to);
+        return new OrderReport.GuestRow(eatInOrders, Objects.requireNonNullElse(eatInTables, 0L));
+    }
+
+    private static BigDecimal toAmount(final long cents) {
+        return BigDecimal.valueOf(cents).divide(CENTS, 2, RoundingMode.UNNECESSARY);
+    }
+
+    private static class Accumulator {
+        private final UuidIndex menus = new UuidIndex();
+        private final long[] typeRevenueCents = new long[ORDER_TYPES.length];
+        private long[] menuQuantities = new long[64];
+        private long[] menuRevenueCents = new long[64];
+
+        private void add(final OrderType type, final byte[] menuId, final long quantity, final long priceCents) {
+            add(type, menus.indexOf(menuId), quantity, priceCents * quantity);
+        }
+
+        private void add(final OrderType type, final int menuIndex, final long quantity, final long revenueCents) {
+            if (menuIndex >= menuQuantities.length) {
+                menuQuantities = Arrays.copyOf(menuQuantities, menuQuantities.length * 2);
+                menuRevenueCents = Arrays.copyOf(menuRevenueCents, menuRevenueCents.length * 2);
+            }
+            menuQuantities[menuIndex] += quantity;
+            menuRevenueCents[menuIndex] += revenueCents;
+            if (Objects.nonNull(type)) {
+                typeRevenueCents[type.ordinal()] += revenueCents;
+            }
+        }
+
+        private void merge(final Accumulator other) {
+            final UUID[] otherMenuIds = other.menus.keys();
+            for (int index = 0; index < otherMenuIds.length; index++) {
+                final UUID menuId = otherMenuIds[index];
+                add(
+                    null,
+                    menus.indexOf(menuId.getMostSignificantBits(), menuId.getLeastSignificantBits()),
+                    other.menuQuantities[index],
+                    other.menuRevenueCents[index]
+                );
+            }
+            for (int ordinal = 0; ordinal < typeRevenueCents.length; ordinal++) {
+                typeRevenueCents[ordinal] += other.typeRevenueCents[ordinal];
+            }
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package kitchenpos.application;
 
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
 import kitchenpos.domain.Menu;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Order;
@@ -9,7 +12,9 @@ import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,48 +22,144 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final MenuCatalogCache menuCatalogCache;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryRequestRepository deliveryRequestRepository;
+    private final TransactionRetryTemplate transactionRetryTemplate;
+    private final OrderStatusFeed orderStatusFeed;
+    private final SalesRollupService salesRollupService;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final int maxBatchSize;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
+        final MenuCatalogCache menuCatalogCache,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryRequestRepository deliveryRequestRepository,
+        final TransactionRetryTemplate transactionRetryTemplate,
+        final OrderStatusFeed orderStatusFeed,
+        final SalesRollupService salesRollupService,
+        final TimeOrderedIdGenerator idGenerator,
+        @Value("${kitchenpos.order.max-batch-size:100}") final int maxBatchSize
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
+        this.menuCatalogCache = menuCatalogCache;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryRequestRepository = deliveryRequestRepository;
+        this.transactionRetryTemplate = transactionRetryTemplate;
+        this.orderStatusFeed = orderStatusFeed;
+        this.salesRollupService = salesRollupService;
+        this.idGenerator = idGenerator;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Transactional
     public Order create(final Order request) {
-        final OrderType type = request.getType();
-        if (Objects.isNull(type)) {
-            throw new IllegalArgumentException();
-        }
         final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
+        final Map<UUID, Menu> menus = menuCatalogCache.findAllByIdIn(
             orderLineItemRequests.stream()
                 .map(OrderLineItem::getMenuId)
                 .toList()
         );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final Order order = newOrder(
+            request,
+            menus,
+            orderTableId -> orderTableRepository.findById(orderTableId)
+                .orElseThrow(NoSuchElementException::new)
+        );
+        orderStatusFeed.publish(order.getId(), order.getType(), order.getStatus());
+        return orderRepository.save(order);
+    }
+
+    @Transactional
+    public List<OrderCreateResult> createAll(final List<Order> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Menu> menus = menuCatalogCache.findAllByIdIn(
+            requests.stream()
+                .map(Order::getOrderLineItems)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .map(OrderLineItem::getMenuId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList()
+        );
+        final Map<UUID, OrderTable> orderTables = orderTableRepository.findAllById(
+                requests.stream()
+                    .filter(request -> request.getType() == OrderType.EAT_IN)
+                    .map(Order::getOrderTableId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+        final List<OrderCreateResult> results = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            try {
+                final Order order = newOrder(requests.get(index), menus, orderTableId -> {
+                    final OrderTable orderTable = orderTables.get(orderTableId);
+                    if (Objects.isNull(orderTable)) {
+                        throw new NoSuchElementException();
+                    }
+                    return orderTable;
+                });
+                orders.add(order);
+                orderStatusFeed.publish(order.getId(), order.getType(), order.getStatus());
+                results.add(OrderCreateResult.success(index, order.getId()));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                results.add(OrderCreateResult.failure(index, e));
+            }
+        }
+        orderRepository.saveAll(orders);
+        return results;
+    }
+
+    private Order newOrder(
+        final Order request,
+        final Map<UUID, Menu> menus,
+        final Function<UUID, OrderTable> orderTableFinder
+    ) {
+        final OrderType type = request.getType();
+        if (Objects.isNull(type)) {
+            throw new IllegalArgumentException();
+        }
+        final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
+        if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final long foundMenuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .distinct()
+            .filter(menus::containsKey)
+            .count();
+        if (foundMenuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        BigDecimal totalPrice = BigDecimal.ZERO;
         for (final OrderLineItem orderLineItemRequest : orderLineItemRequests) {
             final long quantity = orderLineItemRequest.getQuantity();
             if (type != OrderType.EAT_IN) {
@@ -66,8 +167,7 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final Menu menu = menus.get(orderLineItemRequest.getMenuId());
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
@@ -77,14 +177,17 @@ public class OrderService {
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
             orderLineItem.setQuantity(quantity);
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItems.add(orderLineItem);
+            totalPrice = totalPrice.add(menu.getPrice().multiply(BigDecimal.valueOf(quantity)));
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(idGenerator.generate());
         order.setType(type);
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
         order.setOrderLineItems(orderLineItems);
+        order.setTotalPrice(totalPrice);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
             if (Objects.isNull(deliveryAddress) || deliveryAddress.isEmpty()) {
@@ -93,101 +196,295 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
-                .orElseThrow(NoSuchElementException::new);
+            final OrderTable orderTable = orderTableFinder.apply(request.getOrderTableId());
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
     }
 
-    @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+        return transactionRetryTemplate.execute(() -> {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            if (order.getStatus() != OrderStatus.WAITING) {
+                throw new IllegalStateException();
+            }
+            final Order accepted = changeStatus(order, OrderStatus.ACCEPTED);
+            if (order.getType() == OrderType.DELIVERY) {
+                deliveryRequestRepository.save(newDeliveryRequest(order));
             }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+            return accepted;
+        });
+    }
+
+    private DeliveryRequest newDeliveryRequest(final Order order) {
+        final DeliveryRequest deliveryRequest = new DeliveryRequest();
+        deliveryRequest.setOrderId(order.getId());
+        deliveryRequest.setAmount(order.getTotalPrice());
+        deliveryRequest.setDeliveryAddress(order.getDeliveryAddress());
+        deliveryRequest.setStatus(DeliveryRequestStatus.PENDING);
+        deliveryRequest.setNextAttemptAt(LocalDateTime.now());
+        return deliveryRequest;
+    }
+
+    /**
+     * Accepts the order and returns only its new status.
+     * Non-delivery orders take a single conditional UPDATE; delivery orders go through {@link #accept}
+     * because they also write a delivery request. The type is taken from the status feed when it is known.
+     */
+    public OrderStatusResult acceptAndGetStatus(final UUID orderId) {
+        final OrderType type = findType(orderId);
+        if (type == OrderType.DELIVERY) {
+            return new OrderStatusResult(orderId, accept(orderId).getStatus());
         }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
+        return transactionRetryTemplate.execute(
+            () -> updateStatus(orderId, type, OrderStatus.WAITING, OrderStatus.ACCEPTED)
+        );
     }
 
-    @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
+        return transactionRetryTemplate.execute(() -> {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            if (order.getStatus() != OrderStatus.ACCEPTED) {
+                throw new IllegalStateException();
+            }
+            return changeStatus(order, OrderStatus.SERVED);
+        });
+    }
+
+    /**
+     * Serves the order with a single conditional UPDATE and returns only its new status.
+     */
+    public OrderStatusResult serveAndGetStatus(final UUID orderId) {
+        final OrderType type = findType(orderId);
+        return transactionRetryTemplate.execute(
+            () -> updateStatus(orderId, type, OrderStatus.ACCEPTED, OrderStatus.SERVED)
+        );
+    }
+
+    private OrderType findType(final UUID orderId) {
+        return orderStatusFeed.findType(orderId)
+            .or(() -> orderRepository.findTypeById(orderId))
             .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
+    }
+
+    private OrderStatusResult updateStatus(
+        final UUID orderId,
+        final OrderType type,
+        final OrderStatus from,
+        final OrderStatus to
+    ) {
+        if (orderRepository.updateStatus(orderId, from, to) == 0) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        orderStatusFeed.publish(orderId, type, to);
+        return new OrderStatusResult(orderId, to);
     }
 
-    @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return transactionRetryTemplate.execute(() -> {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            if (order.getType() != OrderType.DELIVERY) {
+                throw new IllegalStateException();
+            }
+            if (order.getStatus() != OrderStatus.SERVED) {
+                throw new IllegalStateException();
+            }
+            return changeStatus(order, OrderStatus.DELIVERING);
+        });
     }
 
-    @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return transactionRetryTemplate.execute(() -> {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            if (order.getStatus() != OrderStatus.DELIVERING) {
+                throw new IllegalStateException();
+            }
+            return changeStatus(order, OrderStatus.DELIVERED);
+        });
     }
 
-    @Transactional
     public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
+        return transactionRetryTemplate.execute(() -> {
+            final Order order = orderRepository.findById(orderId)
+                .orElseThrow(NoSuchElementException::new);
+            final OrderType type = order.getType();
+            final OrderStatus status = order.getStatus();
+            if (type == OrderType.DELIVERY) {
+                if (status != OrderStatus.DELIVERED) {
+                    throw new IllegalStateException();
+                }
             }
-        }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
+            if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
+                if (status != OrderStatus.SERVED) {
+                    throw new IllegalStateException();
+                }
+            }
+            final Order completed = changeStatus(order, OrderStatus.COMPLETED);
+            salesRollupService.record(completed, LocalDateTime.now());
+            if (type == OrderType.EAT_IN) {
+                final OrderTable orderTable = completed.getOrderTable();
+                if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+                    orderTable.setNumberOfGuests(0);
+                    orderTable.setOccupied(false);
+                }
             }
+            return completed;
+        });
+    }
+
+    /**
+     * Applies one transition to many orders with a single SELECT and a single UPDATE.
+     * Orders that are missing or not in the required status are reported as failures and left untouched.
+     */
+    public List<OrderTransitionResult> changeAll(final OrderTransition transition, final List<UUID> orderIds) {
+        if (Objects.isNull(orderIds) || orderIds.isEmpty()) {
+            throw new IllegalArgumentException();
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setOccupied(false);
+        final List<UUID> distinctIds = orderIds.stream()
+            .distinct()
+            .toList();
+        return transactionRetryTemplate.execute(() -> {
+            final Map<UUID, Order> orders = findAllForTransition(transition, distinctIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+            final List<OrderTransitionResult> results = new ArrayList<>();
+            final List<Order> changing = new ArrayList<>();
+            for (final UUID orderId : distinctIds) {
+                final Order order = orders.get(orderId);
+                if (Objects.isNull(order)) {
+                    results.add(OrderTransitionResult.failure(orderId, new NoSuchElementException()));
+                    continue;
+                }
+                if (!transition.canApply(order.getType(), order.getStatus())) {
+                    results.add(OrderTransitionResult.failure(orderId, new IllegalStateException()));
+                    continue;
+                }
+                changing.add(order);
+                results.add(OrderTransitionResult.success(orderId, transition.getTarget()));
+            }
+            if (changing.isEmpty()) {
+                return results;
+            }
+            final int updated = orderRepository.updateStatusByIdIn(
+                changing.stream()
+                    .map(Order::getId)
+                    .toList(),
+                changing.stream()
+                    .map(Order::getStatus)
+                    .collect(Collectors.toSet()),
+                transition.getTarget()
+            );
+            if (updated != changing.size()) {
+                throw new ObjectOptimisticLockingFailureException(Order.class, transition.getAction());
+            }
+            if (transition == OrderTransition.ACCEPT) {
+                deliveryRequestRepository.saveAll(
+                    changing.stream()
+                        .filter(order -> order.getType() == OrderType.DELIVERY)
+                        .map(this::newDeliveryRequest)
+                        .toList()
+                );
+            }
+            for (final Order order : changing) {
+                orderStatusFeed.publish(order.getId(), order.getType(), transition.getTarget());
+            }
+            if (transition == OrderTransition.COMPLETE) {
+                salesRollupService.record(changing, LocalDateTime.now());
+                releaseOrderTables(changing);
             }
+            return results;
+        });
+    }
+
+    private List<Order> findAllForTransition(final OrderTransition transition, final List<UUID> orderIds) {
+        if (transition == OrderTransition.COMPLETE) {
+            return orderRepository.findAllWithOrderLineItemsByIdIn(orderIds);
+        }
+        return orderRepository.findAllWithOrderTableByIdIn(orderIds);
+    }
+
+    private void releaseOrderTables(final List<Order> completedOrders) {
+        final Set<UUID> orderTableIds = completedOrders.stream()
+            .filter(order -> order.getType() == OrderType.EAT_IN)
+            .map(order -> order.getOrderTable().getId())
+            .collect(Collectors.toSet());
+        if (orderTableIds.isEmpty()) {
+            return;
+        }
+        orderRepository.findOrderTableIdsByOrderTableIdInAndStatusNot(orderTableIds, OrderStatus.COMPLETED)
+            .forEach(orderTableIds::remove);
+        for (final OrderTable orderTable : orderTableRepository.findAllById(orderTableIds)) {
+            orderTable.setNumberOfGuests(0);
+            orderTable.setOccupied(false);
         }
-        return order;
+    }
+
+    private Order changeStatus(final Order order, final OrderStatus status) {
+        if (orderRepository.updateStatus(order.getId(), order.getStatus(), status) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Order.class, order.getId());
+        }
+        orderStatusFeed.publish(order.getId(), order.getType(), status);
+        return orderRepository.findById(order.getId())
+            .orElseThrow(NoSuchElementException::new);
     }
 
     @Transactional(readOnly = true)
     public List<Order> findAll() {
-        return orderRepository.findAll();
+        final List<Order> orders = orderRepository.findAllWithOrderLineItems();
+        fetchMenuProducts(orders);
+        return orders;
+    }
+
+    @Transactional(readOnly = true)
+    public OrderPage findPage(
+        final OrderStatus status,
+        final OrderType type,
+        final UUID orderTableId,
+        final String cursor,
+        final int size
+    ) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException();
+        }
+        final OrderCursor after = Objects.isNull(cursor) ? null : OrderCursor.decode(cursor);
+        final List<Order> orders = new ArrayList<>(orderRepository.findAllAfter(
+            status,
+            type,
+            orderTableId,
+            Objects.isNull(after) ? null : after.orderDateTime(),
+            Objects.isNull(after) ? null : after.id(),
+            PageRequest.ofSize(size + 1)
+        ));
+        String nextCursor = null;
+        if (orders.size() > size) {
+            orders.remove(size);
+            nextCursor = OrderCursor.of(orders.get(size - 1)).encode();
+        }
+        if (!orders.isEmpty()) {
+            orderRepository.findAllWithOrderLineItemsByIdIn(
+                orders.stream()
+                    .map(Order::getId)
+                    .toList()
+            );
+            fetchMenuProducts(orders);
+        }
+        return new OrderPage(orders, nextCursor);
+    }
+
+    private void fetchMenuProducts(final List<Order> orders) {
+        final List<UUID> menuIds = orders.stream()
+            .flatMap(order -> order.getOrderLineItems().stream())
+            .map(orderLineItem -> orderLineItem.getMenu().getId())
+            .distinct()
+            .toList();
+        if (!menuIds.isEmpty()) {
+            menuRepository.findAllWithMenuProductsByIdIn(menuIds);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderStatusEvent(long id, UUID orderId, OrderType type, OrderStatus status, LocalDateTime occurredAt) {
+    public boolean matches(final OrderType type, final OrderStatus status) {
+        return (Objects.isNull(type) || this.type == type) && (Objects.isNull(status) || this.status == status);
+    }
+}
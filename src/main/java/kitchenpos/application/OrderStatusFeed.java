@@ -0,0 +1,229 @@
+package kitchenpos.application;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes order status changes to subscribed displays once the changing transaction commits.
+ * <p>
+ * The most recent {@code history-size} events are retained so a subscriber can resume after its last event id.
+ * Every subscriber has its own bounded queue drained on a virtual thread, so a slow client never blocks
+ * {@link OrderService}. A subscriber whose queue overflows is closed and is expected to reconnect
+ * with its last event id.
+ */
+@Component
+public class OrderStatusFeed {
+    private final OrderRepository orderRepository;
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private final Duration heartbeatInterval;
+    private final Deque<OrderStatusEvent> history = new ArrayDeque<>();
+    private final Map<UUID, OrderType> orderTypes;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private long sequence;
+
+    public OrderStatusFeed(
+        final OrderRepository orderRepository,
+        @Value("${kitchenpos.order-feed.history-size:10000}") final int historySize,
+        @Value("${kitchenpos.order-feed.subscriber-buffer-size:256}") final int subscriberBufferSize,
+        @Value("${kitchenpos.order-feed.heartbeat-interval:15s}") final Duration heartbeatInterval
+    ) {
+        this.orderRepository = orderRepository;
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        // Seeded from the clock so event ids keep increasing across restarts.
+        this.sequence = System.currentTimeMillis() * 1_000;
+        this.orderTypes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, OrderType> eldest) {
+                return size() > historySize;
+            }
+        };
+    }
+
+    /**
+     * Publishes the change after the current transaction commits, or immediately when none is active.
+     * A {@code null} type is resolved from recent events, falling back to a lookup of the order.
+     */
+    public void publish(final UUID orderId, final OrderType type, final OrderStatus status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(orderId, type, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(orderId, type, status);
+            }
+        });
+    }
+
+    public Subscription subscribe(
+        final OrderType type,
+        final OrderStatus status,
+        final Long lastEventId,
+        final OrderStatusListener listener
+    ) {
+        final Subscription subscription = new Subscription(type, status, listener);
+        synchronized (this) {
+            if (Objects.nonNull(lastEventId)) {
+                final OrderStatusEvent oldest = history.peekFirst();
+                final boolean missed = Objects.nonNull(oldest)
+                    ? oldest.id() > lastEventId + 1
+                    : lastEventId < sequence;
+                subscription.resync = lastEventId > sequence || missed;
+                for (final OrderStatusEvent event : history) {
+                    if (event.id() > lastEventId && subscription.accepts(event)) {
+                        subscription.backlog.add(event);
+                    }
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        executor.submit(subscription::drain);
+        return subscription;
+    }
+
+    public synchronized List<OrderStatusEvent> eventsAfter(final long lastEventId) {
+        return history.stream()
+            .filter(event -> event.id() > lastEventId)
+            .toList();
+    }
+
+    /**
+     * Returns the type of an order seen in a recent event, without touching the database.
+     */
+    public synchronized Optional<OrderType> findType(final UUID orderId) {
+        return Optional.ofNullable(orderTypes.get(orderId));
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(Subscription::close);
+        executor.shutdownNow();
+    }
+
+    private void append(final UUID orderId, final OrderType type, final OrderStatus status) {
+        final OrderType resolvedType = Objects.nonNull(type) ? type : resolveType(orderId);
+        final List<Subscription> overflowed = new ArrayList<>();
+        synchronized (this) {
+            final OrderStatusEvent event = new OrderStatusEvent(
+                ++sequence,
+                orderId,
+                resolvedType,
+                status,
+                LocalDateTime.now()
+            );
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            orderTypes.put(orderId, resolvedType);
+            for (final Subscription subscription : subscriptions) {
+                if (!subscription.offer(event)) {
+                    overflowed.add(subscription);
+                }
+            }
+        }
+        overflowed.forEach(Subscription::close);
+    }
+
+    private OrderType resolveType(final UUID orderId) {
+        return findType(orderId)
+            .or(() -> orderRepository.findTypeById(orderId))
+            .orElse(null);
+    }
+
+    public class Subscription {
+        private final OrderType type;
+        private final OrderStatus status;
+        private final OrderStatusListener listener;
+        private final List<OrderStatusEvent> backlog = new ArrayList<>();
+        private final BlockingQueue<OrderStatusEvent> queue = new ArrayBlockingQueue<>(subscriberBufferSize);
+        private volatile boolean resync;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(final OrderType type, final OrderStatus status, final OrderStatusListener listener) {
+            this.type = type;
+            this.status = status;
+            this.listener = listener;
+        }
+
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.remove(this);
+            listener.onClose();
+        }
+
+        private boolean accepts(final OrderStatusEvent event) {
+            return event.matches(type, status);
+        }
+
+        /**
+         * Returns {@code false} when the event was accepted but the queue is full; the caller closes the subscription.
+         */
+        private boolean offer(final OrderStatusEvent event) {
+            return !accepts(event) || queue.offer(event);
+        }
+
+        private void drain() {
+            try {
+                if (resync) {
+                    listener.onResync();
+                }
+                for (final OrderStatusEvent event : backlog) {
+                    listener.onEvent(event);
+                }
+                backlog.clear();
+                while (!closed.get()) {
+                    final OrderStatusEvent event = queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    if (Objects.isNull(event)) {
+                        listener.onHeartbeat();
+                        continue;
+                    }
+                    listener.onEvent(event);
+                }
+            } catch (final IOException | RuntimeException e) {
+                close();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package kitchenpos.application;
+
+import java.io.IOException;
+
+public interface OrderStatusListener {
+    void onEvent(OrderStatusEvent event) throws IOException;
+
+    /**
+     * Called when the requested resume point is older than the retained history,
+     * so the subscriber has to reload the current orders before applying further events.
+     */
+    void onResync() throws IOException;
+
+    void onHeartbeat() throws IOException;
+
+    void onClose();
+}
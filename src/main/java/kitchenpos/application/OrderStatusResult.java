@@ -0,0 +1,8 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+
+import java.util.UUID;
+
+public record OrderStatusResult(UUID orderId, OrderStatus status) {
+}
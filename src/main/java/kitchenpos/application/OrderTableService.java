@@ -16,10 +16,16 @@ import java.util.UUID;
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
     private final OrderRepository orderRepository;
+    private final TimeOrderedIdGenerator idGenerator;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(
+        final OrderTableRepository orderTableRepository,
+        final OrderRepository orderRepository,
+        final TimeOrderedIdGenerator idGenerator
+    ) {
         this.orderTableRepository = orderTableRepository;
         this.orderRepository = orderRepository;
+        this.idGenerator = idGenerator;
     }
 
     @Transactional
@@ -29,7 +35,7 @@ public class OrderTableService {
             throw new IllegalArgumentException();
         }
         final OrderTable orderTable = new OrderTable();
-        orderTable.setId(UUID.randomUUID());
+        orderTable.setId(idGenerator.generate());
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
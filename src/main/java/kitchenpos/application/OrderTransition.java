@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public enum OrderTransition {
+    ACCEPT("accept", OrderStatus.ACCEPTED),
+    SERVE("serve", OrderStatus.SERVED),
+    START_DELIVERY("start-delivery", OrderStatus.DELIVERING),
+    COMPLETE_DELIVERY("complete-delivery", OrderStatus.DELIVERED),
+    COMPLETE("complete", OrderStatus.COMPLETED);
+
+    private final String action;
+    private final OrderStatus target;
+
+    OrderTransition(final String action, final OrderStatus target) {
+        this.action = action;
+        this.target = target;
+    }
+
+    public static OrderTransition of(final String action) {
+        return Arrays.stream(values())
+            .filter(transition -> transition.action.equals(action))
+            .findFirst()
+            .orElseThrow(IllegalArgumentException::new);
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public OrderStatus getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the status an order of the given type must be in for this transition,
+     * or {@code null} when the transition does not apply to that type.
+     */
+    public OrderStatus requiredStatus(final OrderType type) {
+        return switch (this) {
+            case ACCEPT -> OrderStatus.WAITING;
+            case SERVE -> OrderStatus.ACCEPTED;
+            case START_DELIVERY -> type == OrderType.DELIVERY ? OrderStatus.SERVED : null;
+            case COMPLETE_DELIVERY -> OrderStatus.DELIVERING;
+            case COMPLETE -> type == OrderType.DELIVERY ? OrderStatus.DELIVERED : OrderStatus.SERVED;
+        };
+    }
+
+    public boolean canApply(final OrderType type, final OrderStatus status) {
+        return Objects.nonNull(status) && status == requiredStatus(type);
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+
+import java.util.UUID;
+
+public record OrderTransitionResult(UUID orderId, boolean changed, OrderStatus status, String error) {
+    public static OrderTransitionResult success(final UUID orderId, final OrderStatus status) {
+        return new OrderTransitionResult(orderId, true, status, null);
+    }
+
+    public static OrderTransitionResult failure(final UUID orderId, final RuntimeException exception) {
+        return new OrderTransitionResult(orderId, false, null, exception.getClass().getSimpleName());
+    }
+}
@@ -1,34 +1,48 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.Menu;
-import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuProductQuantity;
 import kitchenpos.domain.MenuRepository;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
-import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.ProfanityFilter;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
-    private final PurgomalumClient purgomalumClient;
+    private final ProfanityFilter profanityFilter;
+    private final MenuCatalogCache menuCatalogCache;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final TransactionRetryTemplate transactionRetryTemplate;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final ProfanityFilter profanityFilter,
+        final MenuCatalogCache menuCatalogCache,
+        final TimeOrderedIdGenerator idGenerator,
+        final TransactionRetryTemplate transactionRetryTemplate
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
-        this.purgomalumClient = purgomalumClient;
+        this.profanityFilter = profanityFilter;
+        this.menuCatalogCache = menuCatalogCache;
+        this.idGenerator = idGenerator;
+        this.transactionRetryTemplate = transactionRetryTemplate;
     }
 
     @Transactional
@@ -38,40 +52,70 @@ public class ProductService {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
+        if (Objects.isNull(name) || profanityFilter.containsProfanity(name)) {
             throw new IllegalArgumentException();
         }
         final Product product = new Product();
-        product.setId(UUID.randomUUID());
+        product.setId(idGenerator.generate());
         product.setName(name);
         product.setPrice(price);
         return productRepository.save(product);
     }
 
-    @Transactional
     public Product changePrice(final UUID productId, final Product request) {
         final BigDecimal price = request.getPrice();
         if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException();
         }
-        final Product product = productRepository.findById(productId)
-            .orElseThrow(NoSuchElementException::new);
-        product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(
-                    menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
+        return transactionRetryTemplate.execute(() -> {
+            final Product product = productRepository.findById(productId)
+                .orElseThrow(NoSuchElementException::new);
+            final BigDecimal delta = price.subtract(product.getPrice());
+            product.setPrice(price);
+            final Map<UUID, Menu> menus = menuRepository.findAllByProductId(productId)
+                .stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+            for (final MenuProductQuantity menuProductQuantity : menuRepository.findMenuProductQuantitiesByProductId(productId)) {
+                final Menu menu = menus.get(menuProductQuantity.menuId());
+                menu.setMenuProductsPrice(
+                    menu.getMenuProductsPrice()
+                        .add(delta.multiply(BigDecimal.valueOf(menuProductQuantity.quantity())))
                 );
             }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
+            for (final Menu menu : menus.values()) {
+                if (menu.getPrice().compareTo(menu.getMenuProductsPrice()) > 0) {
+                    menu.setDisplayed(false);
+                }
+            }
+            menuCatalogCache.invalidate();
+            return product;
+        });
+    }
+
+    @Transactional
+    public List<Product> changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, BigDecimal> prices = new LinkedHashMap<>();
+        for (final Product request : requests) {
+            final BigDecimal price = request.getPrice();
+            if (Objects.isNull(request.getId()) || Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException();
             }
+            prices.put(request.getId(), price);
+        }
+        final List<Product> products = productRepository.findAllByIdIn(new ArrayList<>(prices.keySet()));
+        if (products.size() != prices.size()) {
+            throw new NoSuchElementException();
+        }
+        for (final Product product : products) {
+            product.setPrice(prices.get(product.getId()));
         }
-        return product;
+        menuRepository.updateMenuProductsPriceByProductIdIn(prices.keySet());
+        menuRepository.hideMoreExpensiveThanMenuProductsByProductIdIn(prices.keySet());
+        menuCatalogCache.invalidate();
+        return products;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,143 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.HourlyMenuSalesId;
+import kitchenpos.domain.HourlyMenuSalesRepository;
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.HourlySalesId;
+import kitchenpos.domain.HourlySalesRepository;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Keeps hourly sales counters for completed orders and answers reports from them.
+ * <p>
+ * Counters are bumped with {@code insert ... on duplicate key update x = x + ?} statements inside the completing
+ * transaction, so concurrent completions never lose an increment and a missing bucket row is created without
+ * another connection. The increments of all orders completed together are merged first and applied once per row,
+ * in key order, so overlapping completions lock the rollup rows in the same order.
+ */
+@Service
+public class SalesRollupService {
+    private static final Comparator<HourlySalesId> HOURLY_SALES_ORDER =
+        Comparator.comparing(HourlySalesId::getBucketStart)
+            .thenComparing(HourlySalesId::getOrderType);
+    private static final Comparator<HourlyMenuSalesId> HOURLY_MENU_SALES_ORDER =
+        Comparator.comparing(HourlyMenuSalesId::getBucketStart)
+            .thenComparing(HourlyMenuSalesId::getMenuId);
+
+    private final HourlySalesRepository hourlySalesRepository;
+    private final HourlyMenuSalesRepository hourlyMenuSalesRepository;
+
+    public SalesRollupService(
+        final HourlySalesRepository hourlySalesRepository,
+        final HourlyMenuSalesRepository hourlyMenuSalesRepository
+    ) {
+        this.hourlySalesRepository = hourlySalesRepository;
+        this.hourlyMenuSalesRepository = hourlyMenuSalesRepository;
+    }
+
+    public void record(final Order order, final LocalDateTime completedAt) {
+        record(List.of(order), completedAt);
+    }
+
+    public void record(final Collection<Order> orders, final LocalDateTime completedAt) {
+        final LocalDateTime bucketStart = completedAt.truncatedTo(ChronoUnit.HOURS);
+        final Map<HourlySalesId, Increment> hourlySales = new TreeMap<>(HOURLY_SALES_ORDER);
+        final Map<HourlyMenuSalesId, Increment> hourlyMenuSales = new TreeMap<>(HOURLY_MENU_SALES_ORDER);
+        for (final Order order : orders) {
+            hourlySales.computeIfAbsent(new HourlySalesId(bucketStart, order.getType()), id -> new Increment(null))
+                .add(1, 0, order.getTotalPrice());
+            final Map<UUID, Increment> menuLines = new HashMap<>();
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final Menu menu = orderLineItem.getMenu();
+                final BigDecimal amount = orderLineItem.getPrice()
+                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+                menuLines.computeIfAbsent(menu.getId(), menuId -> new Increment(menu.getMenuGroup().getId()))
+                    .add(0, orderLineItem.getQuantity(), amount);
+            }
+            menuLines.forEach((menuId, menuLine) -> hourlyMenuSales.merge(
+                new HourlyMenuSalesId(bucketStart, menuId),
+                menuLine.add(1, 0, BigDecimal.ZERO),
+                Increment::merge
+            ));
+        }
+
+        hourlySales.forEach((id, increment) -> hourlySalesRepository.upsert(
+            id.getBucketStart(),
+            id.getOrderType().name(),
+            increment.orderCount,
+            increment.revenue
+        ));
+        hourlyMenuSales.forEach((id, increment) -> hourlyMenuSalesRepository.upsert(
+            id.getBucketStart(),
+            id.getMenuId(),
+            increment.menuGroupId,
+            increment.orderCount,
+            increment.quantity,
+            increment.revenue
+        ));
+    }
+
+    @Transactional(readOnly = true)
+    public List<HourlySales> findHourlySales(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+        return hourlySalesRepository.findAllInRange(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuSales> findMenuSales(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+        return hourlyMenuSalesRepository.findMenuSales(from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroupSales> findMenuGroupSales(final LocalDateTime from, final LocalDateTime to) {
+        validateRange(from, to);
+        return hourlyMenuSalesRepository.findMenuGroupSales(from, to);
+    }
+
+    private void validateRange(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private static class Increment {
+        private final UUID menuGroupId;
+        private long orderCount;
+        private long quantity;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private Increment(final UUID menuGroupId) {
+            this.menuGroupId = menuGroupId;
+        }
+
+        private Increment add(final long orderCount, final long quantity, final BigDecimal revenue) {
+            this.orderCount += orderCount;
+            this.quantity += quantity;
+            this.revenue = this.revenue.add(revenue);
+            return this;
+        }
+
+        private Increment merge(final Increment other) {
+            return add(other.orderCount, other.quantity, other.revenue);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Runs an action in its own transaction and retries it in a fresh transaction
+ * when it loses an optimistic concurrency race.
+ * <p>
+ * When a transaction is already active the action joins it and is not retried,
+ * because the outer transaction can no longer be committed.
+ */
+@Component
+public class TransactionRetryTemplate {
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public TransactionRetryTemplate(
+        final PlatformTransactionManager transactionManager,
+        @Value("${kitchenpos.transaction-retry.max-attempts:3}") final int maxAttempts,
+        @Value("${kitchenpos.transaction-retry.backoff:10ms}") final Duration backoff
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    public <T> T execute(final Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (final OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                sleep(backoff.multipliedBy(attempt));
+            }
+        }
+    }
+
+    private void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kitchenpos.application;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Open-addressing map from a 16-byte UUID to a dense {@code int} index, keyed by the two primitive halves,
+ * so report accumulators can keep their counters in plain arrays.
+ */
+class UuidIndex {
+    private static final int EMPTY = -1;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+    private int[] indexes;
+    private int size;
+
+    UuidIndex() {
+        allocate(64);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int indexOf(final byte[] bytes) {
+        return indexOf(toLong(bytes, 0), toLong(bytes, 8));
+    }
+
+    int indexOf(final long msb, final long lsb) {
+        if ((size + 1) * 2 > indexes.length) {
+            rehash();
+        }
+        final int mask = indexes.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (indexes[slot] != EMPTY) {
+            if (mostSignificantBits[slot] == msb && leastSignificantBits[slot] == lsb) {
+                return indexes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        mostSignificantBits[slot] = msb;
+        leastSignificantBits[slot] = lsb;
+        indexes[slot] = size;
+        return size++;
+    }
+
+    UUID[] keys() {
+        final UUID[] keys = new UUID[size];
+        for (int slot = 0; slot < indexes.length; slot++) {
+            if (indexes[slot] != EMPTY) {
+                keys[indexes[slot]] = new UUID(mostSignificantBits[slot], leastSignificantBits[slot]);
+            }
+        }
+        return keys;
+    }
+
+    private void rehash() {
+        final long[] oldMsb = mostSignificantBits;
+        final long[] oldLsb = leastSignificantBits;
+        final int[] oldIndexes = indexes;
+        allocate(oldIndexes.length * 2);
+        final int mask = indexes.length - 1;
+        for (int oldSlot = 0; oldSlot < oldIndexes.length; oldSlot++) {
+            if (oldIndexes[oldSlot] == EMPTY) {
+                continue;
+            }
+            int slot = hash(oldMsb[oldSlot], oldLsb[oldSlot]) & mask;
+            while (indexes[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            mostSignificantBits[slot] = oldMsb[oldSlot];
+            leastSignificantBits[slot] = oldLsb[oldSlot];
+            indexes[slot] = oldIndexes[oldSlot];
+        }
+    }
+
+    private void allocate(final int capacity) {
+        mostSignificantBits = new long[capacity];
+        leastSignificantBits = new long[capacity];
+        indexes = new int[capacity];
+        Arrays.fill(indexes, EMPTY);
+    }
+
+    private static int hash(final long msb, final long lsb) {
+        final long mixed = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static long toLong(final byte[] bytes, final int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeliveryRequestRepository extends JpaRepository<DeliveryRequest, UUID> {
+    List<DeliveryRequest> findTop100ByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        DeliveryRequestStatus status,
+        LocalDateTime now
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update DeliveryRequest d set d.attempts = d.attempts + 1, d.nextAttemptAt = :leaseUntil, d.version = d.version + 1"
+        + " where d.orderId = :orderId and d.status = kitchenpos.domain.DeliveryRequestStatus.PENDING"
+        + " and d.nextAttemptAt <= :now")
+    int claim(
+        @Param("orderId") UUID orderId,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil
+    );
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update DeliveryRequest d set d.status = :status, d.nextAttemptAt = :nextAttemptAt, d.lastError = :lastError,"
+        + " d.version = d.version + 1 where d.orderId = :orderId")
+    int updateStatus(
+        @Param("orderId") UUID orderId,
+        @Param("status") DeliveryRequestStatus status,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("lastError") String lastError
+    );
+}
@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Table(name = "hourly_menu_sales")
+@Entity
+public class HourlyMenuSales {
+    @EmbeddedId
+    private HourlyMenuSalesId id;
+
+    @Column(name = "menu_group_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID menuGroupId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "version", nullable = false)
+    @Version
+    private Long version;
+
+    public HourlyMenuSales() {
+    }
+
+    public HourlyMenuSales(final HourlyMenuSalesId id, final UUID menuGroupId) {
+        this.id = id;
+        this.menuGroupId = menuGroupId;
+        this.revenue = BigDecimal.ZERO;
+    }
+
+    public HourlyMenuSalesId getId() {
+        return id;
+    }
+
+    public UUID getMenuGroupId() {
+        return menuGroupId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
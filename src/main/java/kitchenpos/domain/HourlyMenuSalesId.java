@@ -0,0 +1,50 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class HourlyMenuSalesId implements Serializable {
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "menu_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID menuId;
+
+    protected HourlyMenuSalesId() {
+    }
+
+    public HourlyMenuSalesId(final LocalDateTime bucketStart, final UUID menuId) {
+        this.bucketStart = bucketStart;
+        this.menuId = menuId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HourlyMenuSalesId that)) {
+            return false;
+        }
+        return Objects.equals(bucketStart, that.bucketStart) && Objects.equals(menuId, that.menuId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bucketStart, menuId);
+    }
+}
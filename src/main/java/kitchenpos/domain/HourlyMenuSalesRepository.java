@@ -0,0 +1,38 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface HourlyMenuSalesRepository extends JpaRepository<HourlyMenuSales, HourlyMenuSalesId> {
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into hourly_menu_sales"
+        + " (bucket_start, menu_id, menu_group_id, order_count, quantity, revenue, version)"
+        + " values (:bucketStart, :menuId, :menuGroupId, :orderCount, :quantity, :revenue, 0)"
+        + " on duplicate key update order_count = order_count + :orderCount, quantity = quantity + :quantity,"
+        + " revenue = revenue + :revenue, version = version + 1", nativeQuery = true)
+    int upsert(
+        @Param("bucketStart") LocalDateTime bucketStart,
+        @Param("menuId") UUID menuId,
+        @Param("menuGroupId") UUID menuGroupId,
+        @Param("orderCount") long orderCount,
+        @Param("quantity") long quantity,
+        @Param("revenue") BigDecimal revenue
+    );
+
+    @Query("select new kitchenpos.domain.MenuSales(s.id.menuId, sum(s.orderCount), sum(s.quantity), sum(s.revenue))"
+        + " from HourlyMenuSales s where s.id.bucketStart >= :from and s.id.bucketStart < :to"
+        + " group by s.id.menuId order by sum(s.revenue) desc")
+    List<MenuSales> findMenuSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("select new kitchenpos.domain.MenuGroupSales(s.menuGroupId, sum(s.quantity), sum(s.revenue))"
+        + " from HourlyMenuSales s where s.id.bucketStart >= :from and s.id.bucketStart < :to"
+        + " group by s.menuGroupId order by sum(s.revenue) desc")
+    List<MenuGroupSales> findMenuGroupSales(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,46 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+import java.math.BigDecimal;
+
+@Table(name = "hourly_sales")
+@Entity
+public class HourlySales {
+    @EmbeddedId
+    private HourlySalesId id;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "version", nullable = false)
+    @Version
+    private Long version;
+
+    public HourlySales() {
+    }
+
+    public HourlySales(final HourlySalesId id) {
+        this.id = id;
+        this.revenue = BigDecimal.ZERO;
+    }
+
+    public HourlySalesId getId() {
+        return id;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
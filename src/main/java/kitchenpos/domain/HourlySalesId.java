@@ -0,0 +1,52 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Embeddable
+public class HourlySalesId implements Serializable {
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "order_type", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private OrderType orderType;
+
+    protected HourlySalesId() {
+    }
+
+    public HourlySalesId(final LocalDateTime bucketStart, final OrderType orderType) {
+        this.bucketStart = bucketStart;
+        this.orderType = orderType;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HourlySalesId that)) {
+            return false;
+        }
+        return Objects.equals(bucketStart, that.bucketStart) && orderType == that.orderType;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bucketStart, orderType);
+    }
+}
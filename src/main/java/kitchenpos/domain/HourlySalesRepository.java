@@ -0,0 +1,28 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface HourlySalesRepository extends JpaRepository<HourlySales, HourlySalesId> {
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into hourly_sales (bucket_start, order_type, order_count, revenue, version)"
+        + " values (:bucketStart, :orderType, :orderCount, :revenue, 0)"
+        + " on duplicate key update order_count = order_count + :orderCount, revenue = revenue + :revenue,"
+        + " version = version + 1", nativeQuery = true)
+    int upsert(
+        @Param("bucketStart") LocalDateTime bucketStart,
+        @Param("orderType") String orderType,
+        @Param("orderCount") long orderCount,
+        @Param("revenue") BigDecimal revenue
+    );
+
+    @Query("select s from HourlySales s where s.id.bucketStart >= :from and s.id.bucketStart < :to"
+        + " order by s.id.bucketStart, s.id.orderType")
+    List<HourlySales> findAllInRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -36,6 +37,9 @@ public class Menu {
     )
     private MenuGroup menuGroup;
 
+    @Column(name = "menu_products_price", nullable = false)
+    private BigDecimal menuProductsPrice;
+
     @Column(name = "displayed", nullable = false)
     private boolean displayed;
 
@@ -48,6 +52,10 @@ public class Menu {
     )
     private List<MenuProduct> menuProducts;
 
+    @Column(name = "version", nullable = false)
+    @Version
+    private Long version;
+
     @Transient
     private UUID menuGroupId;
 
@@ -86,6 +94,14 @@ public class Menu {
         this.menuGroup = menuGroup;
     }
 
+    public BigDecimal getMenuProductsPrice() {
+        return menuProductsPrice;
+    }
+
+    public void setMenuProductsPrice(final BigDecimal menuProductsPrice) {
+        this.menuProductsPrice = menuProductsPrice;
+    }
+
     public boolean isDisplayed() {
         return displayed;
     }
@@ -102,6 +118,14 @@ public class Menu {
         this.menuProducts = menuProducts;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public UUID getMenuGroupId() {
         return menuGroupId;
     }
@@ -0,0 +1,7 @@
+package kitchenpos.domain;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record MenuGroupSales(UUID menuGroupId, long quantity, BigDecimal revenue) {
+}
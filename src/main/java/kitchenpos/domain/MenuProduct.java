@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Transient;
 
 import java.util.UUID;
@@ -17,7 +18,15 @@ import java.util.UUID;
 @Entity
 public class MenuProduct {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "menu_product_seq")
+    @TableGenerator(
+        name = "menu_product_seq",
+        table = "sequence_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "menu_product",
+        allocationSize = 50
+    )
     @Id
     private Long seq;
 
@@ -29,6 +38,9 @@ public class MenuProduct {
     )
     private Product product;
 
+    @Column(name = "menu_id", columnDefinition = "binary(16)", insertable = false, updatable = false)
+    private UUID menuId;
+
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
@@ -54,6 +66,10 @@ public class MenuProduct {
         this.product = product;
     }
 
+    public UUID getMenuId() {
+        return menuId;
+    }
+
     public long getQuantity() {
         return quantity;
     }
@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public record MenuProductQuantity(UUID menuId, long quantity) {
+}
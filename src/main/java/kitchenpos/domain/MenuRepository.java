@@ -1,15 +1,41 @@
 package kitchenpos.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID> {
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
+    @Query("select distinct m from Menu m join fetch m.menuGroup left join fetch m.menuProducts mp left join fetch mp.product")
+    List<Menu> findAllWithMenuProducts();
+
+    @Query("select distinct m from Menu m join fetch m.menuGroup left join fetch m.menuProducts mp left join fetch mp.product where m.id in :ids")
+    List<Menu> findAllWithMenuProductsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select m from Menu m join fetch m.menuGroup"
+        + " where m.id in (select pm.id from Menu pm join pm.menuProducts mp where mp.product.id = :productId)")
     List<Menu> findAllByProductId(@Param("productId") UUID productId);
+
+    @Query("select new kitchenpos.domain.MenuProductQuantity(m.id, mp.quantity)"
+        + " from Menu m join m.menuProducts mp where mp.product.id = :productId")
+    List<MenuProductQuantity> findMenuProductQuantitiesByProductId(@Param("productId") UUID productId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Menu m set m.menuProductsPrice ="
+        + " (select sum(mp.product.price * mp.quantity) from MenuProduct mp where mp.menuId = m.id),"
+        + " m.version = m.version + 1"
+        + " where m.id in (select pmp.menuId from MenuProduct pmp where pmp.product.id in :productIds)")
+    int updateMenuProductsPriceByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Menu m set m.displayed = false, m.version = m.version + 1"
+        + " where m.displayed = true and m.price > m.menuProductsPrice"
+        + " and m.id in (select pmp.menuId from MenuProduct pmp where pmp.product.id in :productIds)")
+    int hideMoreExpensiveThanMenuProductsByProductIdIn(@Param("productIds") Collection<UUID> productIds);
 }
@@ -12,7 +12,9 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -44,6 +46,9 @@ public class Order {
     )
     private List<OrderLineItem> orderLineItems;
 
+    @Column(name = "total_price", nullable = false)
+    private BigDecimal totalPrice;
+
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
@@ -55,6 +60,10 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Column(name = "version", nullable = false)
+    @Version
+    private Long version;
+
     @Transient
     private UUID orderTableId;
 
@@ -101,6 +110,14 @@ public class Order {
         this.orderLineItems = orderLineItems;
     }
 
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(final BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
     public String getDeliveryAddress() {
         return deliveryAddress;
     }
@@ -117,6 +134,14 @@ public class Order {
         this.orderTable = orderTable;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public UUID getOrderTableId() {
         return orderTableId;
     }
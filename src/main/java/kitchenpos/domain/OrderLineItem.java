@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.Transient;
 
 import java.math.BigDecimal;
@@ -18,7 +19,15 @@ import java.util.UUID;
 @Entity
 public class OrderLineItem {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "order_line_item_seq")
+    @TableGenerator(
+        name = "order_line_item_seq",
+        table = "sequence_generator",
+        pkColumnName = "sequence_name",
+        valueColumnName = "next_val",
+        pkColumnValue = "order_line_item",
+        allocationSize = 50
+    )
     @Id
     private Long seq;
 
@@ -36,7 +45,7 @@ public class OrderLineItem {
     @Transient
     private UUID menuId;
 
-    @Transient
+    @Column(name = "price", nullable = false)
     private BigDecimal price;
 
     public OrderLineItem() {
@@ -1,9 +1,76 @@
 package kitchenpos.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+    default boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
+        return existsByOrderTableAndStatusIn(orderTable, EnumSet.complementOf(EnumSet.of(status)));
+    }
+
+    boolean existsByOrderTableAndStatusIn(OrderTable orderTable, Collection<OrderStatus> statuses);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to, o.version = o.version + 1 where o.id = :orderId and o.status = :from")
+    int updateStatus(
+        @Param("orderId") UUID orderId,
+        @Param("from") OrderStatus from,
+        @Param("to") OrderStatus to
+    );
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.status = :to, o.version = o.version + 1"
+        + " where o.id in :orderIds and o.status in :from")
+    int updateStatusByIdIn(
+        @Param("orderIds") Collection<UUID> orderIds,
+        @Param("from") Collection<OrderStatus> from,
+        @Param("to") OrderStatus to
+    );
+
+    @Query("select distinct o.orderTable.id from Order o"
+        + " where o.orderTable.id in :orderTableIds and o.status <> :status")
+    List<UUID> findOrderTableIdsByOrderTableIdInAndStatusNot(
+        @Param("orderTableIds") Collection<UUID> orderTableIds,
+        @Param("status") OrderStatus status
+    );
+
+    @Query("select o.type from Order o where o.id = :orderId")
+    Optional<OrderType> findTypeById(@Param("orderId") UUID orderId);
+
+    @Query("select o from Order o left join fetch o.orderTable where o.id in :ids")
+    List<Order> findAllWithOrderTableByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct o from Order o left join fetch o.orderTable left join fetch o.orderLineItems li"
+        + " left join fetch li.menu m left join fetch m.menuGroup")
+    List<Order> findAllWithOrderLineItems();
+
+    @Query("select distinct o from Order o left join fetch o.orderTable left join fetch o.orderLineItems li"
+        + " left join fetch li.menu m left join fetch m.menuGroup where o.id in :ids")
+    List<Order> findAllWithOrderLineItemsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Query("select o from Order o left join fetch o.orderTable"
+        + " where (:status is null or o.status = :status)"
+        + " and (:type is null or o.type = :type)"
+        + " and (:orderTableId is null or o.orderTable.id = :orderTableId)"
+        + " and (:afterDateTime is null or o.orderDateTime > :afterDateTime"
+        + " or (o.orderDateTime = :afterDateTime and o.id > :afterId))"
+        + " order by o.orderDateTime, o.id")
+    List<Order> findAllAfter(
+        @Param("status") OrderStatus status,
+        @Param("type") OrderType type,
+        @Param("orderTableId") UUID orderTableId,
+        @Param("afterDateTime") LocalDateTime afterDateTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable
+    );
 }
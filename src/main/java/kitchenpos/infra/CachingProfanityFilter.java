@@ -0,0 +1,146 @@
+package kitchenpos.infra;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches profanity verdicts of a remote {@link ProfanityFilter} by normalized text.
+ * <p>
+ * Verdicts expire after {@code ttl} and the least recently used entry is evicted beyond {@code maximumSize}.
+ * Concurrent lookups of the same text share a single remote call.
+ * When the remote filter throws {@link ClientUnavailableException}, the {@link FallbackPolicy} decides the answer,
+ * and that answer is not cached so the next lookup asks the remote filter again.
+ */
+public class CachingProfanityFilter implements ProfanityFilter {
+    private final ProfanityFilter delegate;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final FallbackPolicy fallback;
+    private final Map<String, Verdict> verdicts;
+    private final Map<String, CompletableFuture<Boolean>> inFlights = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder remoteCalls = new LongAdder();
+    private final LongAdder remoteCallNanos = new LongAdder();
+
+    public CachingProfanityFilter(final ProfanityFilter delegate, final int maximumSize, final Duration ttl) {
+        this(delegate, maximumSize, ttl, FallbackPolicy.FAIL);
+    }
+
+    public CachingProfanityFilter(
+        final ProfanityFilter delegate,
+        final int maximumSize,
+        final Duration ttl,
+        final FallbackPolicy fallback
+    ) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.verdicts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Verdict> eldest) {
+                return size() > CachingProfanityFilter.this.maximumSize;
+            }
+        };
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        final String key = normalize(text);
+        final Boolean cached = get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        final CompletableFuture<Boolean> created = new CompletableFuture<>();
+        final CompletableFuture<Boolean> inFlight = inFlights.putIfAbsent(key, created);
+        if (inFlight != null) {
+            coalesced.increment();
+            try {
+                return await(inFlight);
+            } catch (final ClientUnavailableException e) {
+                return fallback(e);
+            }
+        }
+        try {
+            final long startedAt = System.nanoTime();
+            final boolean containsProfanity = delegate.containsProfanity(text);
+            remoteCalls.increment();
+            remoteCallNanos.add(System.nanoTime() - startedAt);
+            put(key, containsProfanity);
+            created.complete(containsProfanity);
+            return containsProfanity;
+        } catch (final ClientUnavailableException e) {
+            created.completeExceptionally(e);
+            return fallback(e);
+        } catch (final RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlights.remove(key, created);
+        }
+    }
+
+    public ProfanityCacheStats stats() {
+        return new ProfanityCacheStats(
+            hits.sum(),
+            misses.sum(),
+            coalesced.sum(),
+            remoteCalls.sum(),
+            Duration.ofNanos(remoteCallNanos.sum())
+        );
+    }
+
+    private synchronized Boolean get(final String key) {
+        final Verdict verdict = verdicts.get(key);
+        if (verdict == null) {
+            return null;
+        }
+        if (System.nanoTime() - verdict.cachedAt() > ttlNanos) {
+            verdicts.remove(key);
+            return null;
+        }
+        return verdict.containsProfanity();
+    }
+
+    private synchronized void put(final String key, final boolean containsProfanity) {
+        verdicts.put(key, new Verdict(containsProfanity, System.nanoTime()));
+    }
+
+    private boolean fallback(final ClientUnavailableException e) {
+        return switch (fallback) {
+            case PERMIT -> false;
+            case DENY -> true;
+            case FAIL -> throw e;
+        };
+    }
+
+    private boolean await(final CompletableFuture<Boolean> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String normalize(final String text) {
+        return text.strip()
+            .replaceAll("\\s+", " ")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private record Verdict(boolean containsProfanity, long cachedAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.infra;
+
+public class ClientUnavailableException extends RuntimeException {
+    public ClientUnavailableException(final String message) {
+        super(message);
+    }
+
+    public ClientUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
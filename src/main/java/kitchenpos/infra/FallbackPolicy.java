@@ -0,0 +1,5 @@
+package kitchenpos.infra;
+
+public enum FallbackPolicy {
+    FAIL, PERMIT, DENY
+}
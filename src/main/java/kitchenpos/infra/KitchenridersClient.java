@@ -1,5 +1,7 @@
 package kitchenpos.infra;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -7,6 +9,19 @@ import java.util.UUID;
 
 @Component
 public class KitchenridersClient {
+    private final OutboundClientGuard guard;
+
+    public KitchenridersClient(
+        @Qualifier("kitchenridersSettings") final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry
+    ) {
+        this.guard = new OutboundClientGuard("kitchenriders", settings, meterRegistry);
+    }
+
     public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        guard.run(() -> send(orderId, amount, deliveryAddress));
+    }
+
+    protected void send(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
     }
 }
@@ -0,0 +1,45 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+@ConditionalOnProperty(name = "kitchenpos.profanity.filter", havingValue = "local", matchIfMissing = true)
+@Component
+public class LocalProfanityFilter implements ProfanityFilter {
+    private final Resource words;
+    private volatile ProfanityMatcher matcher;
+
+    public LocalProfanityFilter(@Value("${kitchenpos.profanity.words-location:classpath:profanity/words.txt}") final Resource words) {
+        this.words = words;
+        reload();
+    }
+
+    /**
+     * Re-reads the word list so edits to an external {@code words-location} apply without a restart.
+     */
+    @Scheduled(
+        initialDelayString = "${kitchenpos.profanity.reload-interval:5m}",
+        fixedDelayString = "${kitchenpos.profanity.reload-interval:5m}"
+    )
+    public void reload() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(words.getInputStream(), StandardCharsets.UTF_8))) {
+            matcher = ProfanityMatcher.of(reader.lines().toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        return matcher.matches(text);
+    }
+}
@@ -0,0 +1,20 @@
+package kitchenpos.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboundClientConfig {
+    @ConfigurationProperties("kitchenpos.infra.purgomalum")
+    @Bean
+    public OutboundClientSettings purgomalumSettings() {
+        return new OutboundClientSettings();
+    }
+
+    @ConfigurationProperties("kitchenpos.infra.kitchenriders")
+    @Bean
+    public OutboundClientSettings kitchenridersSettings() {
+        return new OutboundClientSettings();
+    }
+}
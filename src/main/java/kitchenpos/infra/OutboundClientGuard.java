@@ -0,0 +1,144 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs calls to an external service behind a concurrency bulkhead and a circuit breaker,
+ * so a stalled dependency can hold at most {@code maxConcurrentCalls} request threads.
+ * Each call is given at most {@code callTimeout}; a call that exceeds it is interrupted and counted as a failure.
+ * Rejected and failed calls are handed to the fallback as a {@link ClientUnavailableException}.
+ * Call latency is recorded as {@code kitchenpos.client.requests}, tagged by client and outcome.
+ */
+public class OutboundClientGuard {
+    private final String name;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    private final long callTimeoutNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer rejectionTimer;
+
+    public OutboundClientGuard(final String name, final OutboundClientSettings settings) {
+        this(name, settings, new SimpleMeterRegistry());
+    }
+
+    public OutboundClientGuard(
+        final String name,
+        final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry
+    ) {
+        this.name = name;
+        this.bulkhead = new Semaphore(settings.getMaxConcurrentCalls());
+        this.maxWaitNanos = settings.getMaxWait().toNanos();
+        this.callTimeoutNanos = settings.getCallTimeout().toNanos();
+        this.circuitBreaker = new CircuitBreaker(settings.getFailureThreshold(), settings.getOpenDuration());
+        this.successTimer = timer(meterRegistry, "success");
+        this.failureTimer = timer(meterRegistry, "failure");
+        this.rejectionTimer = timer(meterRegistry, "rejected");
+        Gauge.builder("kitchenpos.client.bulkhead.available", bulkhead, Semaphore::availablePermits)
+            .tag("client", name)
+            .register(meterRegistry);
+        Gauge.builder("kitchenpos.client.circuit.open", circuitBreaker,
+                breaker -> breaker.getState() == CircuitBreaker.State.OPEN ? 1 : 0)
+            .tag("client", name)
+            .register(meterRegistry);
+    }
+
+    private Timer timer(final MeterRegistry meterRegistry, final String outcome) {
+        return Timer.builder("kitchenpos.client.requests")
+            .tag("client", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    public <T> T call(final Supplier<T> call, final Function<ClientUnavailableException, T> fallback) {
+        final long start = System.nanoTime();
+        if (!acquireBulkhead()) {
+            rejectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return fallback.apply(new ClientUnavailableException(name + " has no available concurrent calls"));
+        }
+        try {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                rejectionTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return fallback.apply(new ClientUnavailableException(name + " circuit breaker is open"));
+            }
+            final T result;
+            try {
+                result = invoke(call);
+            } catch (final RuntimeException e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                circuitBreaker.onFailure();
+                return fallback.apply(new ClientUnavailableException(name + " call failed", e));
+            } catch (final Error e) {
+                failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                circuitBreaker.onFailure();
+                throw e;
+            }
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            circuitBreaker.onSuccess();
+            return result;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public void run(final Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        }, e -> {
+            throw e;
+        });
+    }
+
+    /**
+     * Runs the call on its own virtual thread so the caller can stop waiting once {@code callTimeout} elapses.
+     * Blocking socket I/O on a virtual thread is interruptible, so the abandoned call does not keep its connection.
+     */
+    private <T> T invoke(final Supplier<T> call) {
+        if (callTimeoutNanos <= 0) {
+            return call.get();
+        }
+        final FutureTask<T> task = new FutureTask<>(call::get);
+        Thread.ofVirtual().name(name + "-call").start(task);
+        try {
+            return task.get(callTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            task.cancel(true);
+            throw new ClientUnavailableException(name + " call timed out", e);
+        } catch (final InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ClientUnavailableException(name + " call interrupted", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private boolean acquireBulkhead() {
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package kitchenpos.infra;
+
+import java.time.Duration;
+
+public class OutboundClientSettings {
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(2);
+    private int maxConcurrentCalls = 10;
+    private Duration maxWait = Duration.ofMillis(100);
+    private Duration callTimeout = Duration.ofSeconds(5);
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private FallbackPolicy fallback = FallbackPolicy.FAIL;
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(final Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(final Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(final int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    public void setMaxWait(final Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public Duration getCallTimeout() {
+        return callTimeout;
+    }
+
+    public void setCallTimeout(final Duration callTimeout) {
+        this.callTimeout = callTimeout;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(final int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public void setOpenDuration(final Duration openDuration) {
+        this.openDuration = openDuration;
+    }
+
+    public FallbackPolicy getFallback() {
+        return fallback;
+    }
+
+    public void setFallback(final FallbackPolicy fallback) {
+        this.fallback = fallback;
+    }
+}
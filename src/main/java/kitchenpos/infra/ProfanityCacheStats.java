@@ -0,0 +1,26 @@
+package kitchenpos.infra;
+
+import java.time.Duration;
+
+public record ProfanityCacheStats(
+    long hitCount,
+    long missCount,
+    long coalescedCount,
+    long remoteCallCount,
+    Duration totalRemoteCallTime
+) {
+    public double hitRatio() {
+        final long requestCount = hitCount + missCount;
+        if (requestCount == 0) {
+            return 0;
+        }
+        return (double) hitCount / requestCount;
+    }
+
+    public Duration averageRemoteCallTime() {
+        if (remoteCallCount == 0) {
+            return Duration.ZERO;
+        }
+        return totalRemoteCallTime.dividedBy(remoteCallCount);
+    }
+}
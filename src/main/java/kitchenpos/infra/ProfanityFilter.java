@@ -0,0 +1,5 @@
+package kitchenpos.infra;
+
+public interface ProfanityFilter {
+    boolean containsProfanity(String text);
+}
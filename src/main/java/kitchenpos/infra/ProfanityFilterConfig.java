@@ -0,0 +1,25 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+@ConditionalOnProperty(name = "kitchenpos.profanity.filter", havingValue = "purgomalum")
+@Configuration
+public class ProfanityFilterConfig {
+    @Primary
+    @Bean
+    public CachingProfanityFilter cachingProfanityFilter(
+        final PurgomalumClient purgomalumClient,
+        @Qualifier("purgomalumSettings") final OutboundClientSettings settings,
+        @Value("${kitchenpos.profanity.cache.maximum-size:10000}") final int maximumSize,
+        @Value("${kitchenpos.profanity.cache.ttl:1h}") final Duration ttl
+    ) {
+        return new CachingProfanityFilter(purgomalumClient, maximumSize, ttl, settings.getFallback());
+    }
+}
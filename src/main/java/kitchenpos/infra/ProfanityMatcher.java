@@ -0,0 +1,90 @@
+package kitchenpos.infra;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton over a word list.
+ * <p>
+ * A word matches wherever it occurs, including inside a longer word, the same way PurgoMalum checked names.
+ * Instances are immutable once built and safe to share between threads.
+ */
+final class ProfanityMatcher {
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Node root;
+
+    private ProfanityMatcher(final Node root) {
+        this.root = root;
+    }
+
+    static ProfanityMatcher of(final Collection<String> words) {
+        final Node root = new Node();
+        for (final String word : words) {
+            final String normalized = normalize(word.strip());
+            if (normalized.isEmpty() || normalized.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), c -> new Node());
+            }
+            node.terminal = true;
+        }
+        linkFailures(root);
+        return new ProfanityMatcher(root);
+    }
+
+    boolean matches(final String text) {
+        final String normalized = normalize(text);
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            final char c = normalized.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void linkFailures(final Node root) {
+        root.failure = root;
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (final Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            for (final Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                final char c = entry.getKey();
+                final Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(c, root);
+                child.terminal |= child.failure.terminal;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static String normalize(final String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private boolean terminal;
+    }
+}
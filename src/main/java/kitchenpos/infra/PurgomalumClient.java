@@ -1,5 +1,8 @@
 package kitchenpos.infra;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -7,19 +10,43 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 
+@ConditionalOnProperty(name = "kitchenpos.profanity.filter", havingValue = "purgomalum")
 @Component
-public class PurgomalumClient {
+public class PurgomalumClient implements ProfanityFilter {
     private final RestTemplate restTemplate;
+    private final OutboundClientGuard guard;
 
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
+    public PurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        @Qualifier("purgomalumSettings") final OutboundClientSettings settings,
+        final MeterRegistry meterRegistry
+    ) {
+        this.restTemplate = restTemplateBuilder
+            .setConnectTimeout(settings.getConnectTimeout())
+            .setReadTimeout(settings.getReadTimeout())
+            .build();
+        this.guard = new OutboundClientGuard("purgomalum", settings, meterRegistry);
     }
 
+    /**
+     * @throws ClientUnavailableException when PurgoMalum cannot answer; the fallback policy is applied by
+     *                                    {@link CachingProfanityFilter}, which never caches a fallback answer
+     */
+    @Override
     public boolean containsProfanity(final String text) {
         final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
             .queryParam("text", text)
             .build()
             .toUri();
-        return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
+        return guard.call(
+            () -> Boolean.parseBoolean(send(url)),
+            e -> {
+                throw e;
+            }
+        );
+    }
+
+    protected String send(final URI url) {
+        return restTemplate.getForObject(url, String.class);
     }
 }
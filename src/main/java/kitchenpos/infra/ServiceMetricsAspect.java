@@ -0,0 +1,60 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of the application services as {@code kitchenpos.service},
+ * tagged by class, method and outcome ({@code success} or the exception's simple name).
+ * It runs outside the transaction advice, so commit time is included.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+    private static final String METRIC_NAME = "kitchenpos.service";
+    private static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * kitchenpos.application.*Service.*(..))")
+    public Object time(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final long start = System.nanoTime();
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        try {
+            final Object result = joinPoint.proceed();
+            successTimers.computeIfAbsent(method, key -> timer(key, SUCCESS))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (final Throwable e) {
+            timer(method, e.getClass().getSimpleName())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(final Method method, final String outcome) {
+        return Timer.builder(METRIC_NAME)
+            .tag("class", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
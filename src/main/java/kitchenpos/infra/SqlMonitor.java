@@ -0,0 +1,93 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives the execution time of every JDBC statement from {@link SqlMonitoringDataSource}.
+ * <p>
+ * Statements slower than {@code slow-threshold} are logged with their SQL text, never their bind values,
+ * for a {@code sample-rate} fraction of occurrences. Statements run on a thread that has begun a request
+ * are also added to that request's {@link SqlRequestStats}. Every statement is timed as {@code kitchenpos.sql.statements}
+ * and slow ones are counted as {@code kitchenpos.sql.slow}, whether or not they were sampled for logging.
+ */
+@Component
+public class SqlMonitor implements SmartInitializingSingleton {
+    private static final Logger log = LoggerFactory.getLogger(SqlMonitor.class);
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private volatile Timer statementTimer;
+    private volatile Counter slowCounter;
+
+    public SqlMonitor(
+        @Value("${kitchenpos.sql.slow-threshold:200ms}") final Duration slowThreshold,
+        @Value("${kitchenpos.sql.sample-rate:1.0}") final double sampleRate,
+        final ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Meters are registered only once all singletons exist, because this monitor is created while the
+     * {@code DataSource} is still being initialized and the registry's binders depend on it.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        meterRegistry.ifAvailable(registry -> {
+            statementTimer = registry.timer("kitchenpos.sql.statements");
+            slowCounter = registry.counter("kitchenpos.sql.slow");
+        });
+    }
+
+    public void record(final String sql, final long nanos) {
+        final SqlRequestStats stats = CURRENT.get();
+        if (Objects.nonNull(stats)) {
+            stats.add(nanos);
+        }
+        final Timer timer = statementTimer;
+        if (Objects.nonNull(timer)) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+        if (nanos < slowThresholdNanos) {
+            return;
+        }
+        final Counter counter = slowCounter;
+        if (Objects.nonNull(counter)) {
+            counter.increment();
+        }
+        if (sampled()) {
+            log.warn("Slow SQL ({} ms): {}", nanos / 1_000_000, sql);
+        }
+    }
+
+    public SqlRequestStats begin() {
+        final SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        CURRENT.remove();
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
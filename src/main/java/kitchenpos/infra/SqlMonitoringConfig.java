@@ -0,0 +1,24 @@
+package kitchenpos.infra;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration(proxyBeanMethods = false)
+public class SqlMonitoringConfig {
+    @Bean
+    public static BeanPostProcessor sqlMonitoringDataSourcePostProcessor(final ObjectProvider<SqlMonitor> sqlMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return SqlMonitoringDataSource.wrap(dataSource, sqlMonitor.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
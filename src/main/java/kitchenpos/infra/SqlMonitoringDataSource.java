@@ -0,0 +1,83 @@
+package kitchenpos.infra;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * JDK proxies around a {@link DataSource} that time every {@code execute*} call on the statements it hands out
+ * and report it to {@link SqlMonitor}. Everything else, including {@code unwrap}, goes straight to the target.
+ */
+final class SqlMonitoringDataSource {
+    private SqlMonitoringDataSource() {
+    }
+
+    static DataSource wrap(final DataSource dataSource, final SqlMonitor sqlMonitor) {
+        return proxy(DataSource.class, dataSource, (target, method, args) -> {
+            final Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return wrap(connection, sqlMonitor);
+            }
+            return result;
+        });
+    }
+
+    private static Connection wrap(final Connection connection, final SqlMonitor sqlMonitor) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            final Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                final String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return wrap(statement, sql, sqlMonitor);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrap(final Statement statement, final String sql, final SqlMonitor sqlMonitor) {
+        final Class<? extends Statement> type = statement instanceof CallableStatement
+            ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            final long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                final String executed = sql != null || args == null || args.length == 0 ? sql : (String) args[0];
+                sqlMonitor.record(executed, System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static <T> T proxy(final Class<? extends T> type, final T target, final Handler handler) {
+        return type.cast(Proxy.newProxyInstance(
+            SqlMonitoringDataSource.class.getClassLoader(),
+            new Class<?>[]{type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handler.handle(target, method, args);
+            }
+        ));
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.infra;
+
+public class SqlRequestStats {
+    private int statementCount;
+    private long elapsedNanos;
+
+    void add(final long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
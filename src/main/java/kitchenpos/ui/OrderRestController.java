@@ -1,27 +1,56 @@
 package kitchenpos.ui;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.application.OrderCreateResult;
+import kitchenpos.application.OrderPage;
 import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderStatusFeed;
+import kitchenpos.application.OrderTransition;
+import kitchenpos.application.OrderTransitionResult;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
+    private static final int STREAM_PAGE_SIZE = 200;
+
     private final OrderService orderService;
+    private final OrderStatusFeed orderStatusFeed;
+    private final ObjectMapper objectMapper;
+    private final Duration eventsTimeout;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderStatusFeed orderStatusFeed,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.order-feed.timeout:30m}") final Duration eventsTimeout
+    ) {
         this.orderService = orderService;
+        this.orderStatusFeed = orderStatusFeed;
+        this.objectMapper = objectMapper;
+        this.eventsTimeout = eventsTimeout;
     }
 
     @PostMapping
@@ -31,13 +60,38 @@ public class OrderRestController {
             .body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderCreateResult>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderService.createAll(requests));
+    }
+
+    @PutMapping("/{action}")
+    public ResponseEntity<List<OrderTransitionResult>> changeAll(
+        @PathVariable final String action,
+        @RequestBody final List<UUID> orderIds
+    ) {
+        return ResponseEntity.ok(orderService.changeAll(OrderTransition.of(action), orderIds));
+    }
+
     @PutMapping("/{orderId}/accept")
-    public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
+    public ResponseEntity<?> accept(
+        @PathVariable final UUID orderId,
+        @RequestParam(defaultValue = "true") final boolean hydrate
+    ) {
+        if (!hydrate) {
+            return ResponseEntity.ok(orderService.acceptAndGetStatus(orderId));
+        }
         return ResponseEntity.ok(orderService.accept(orderId));
     }
 
     @PutMapping("/{orderId}/serve")
-    public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
+    public ResponseEntity<?> serve(
+        @PathVariable final UUID orderId,
+        @RequestParam(defaultValue = "true") final boolean hydrate
+    ) {
+        if (!hydrate) {
+            return ResponseEntity.ok(orderService.serveAndGetStatus(orderId));
+        }
         return ResponseEntity.ok(orderService.serve(orderId));
     }
 
@@ -60,4 +114,60 @@ public class OrderRestController {
     public ResponseEntity<List<Order>> findAll() {
         return ResponseEntity.ok(orderService.findAll());
     }
+
+    @GetMapping("/page")
+    public ResponseEntity<OrderPage> findPage(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "50") final int size
+    ) {
+        return ResponseEntity.ok(orderService.findPage(status, type, orderTableId, cursor, size));
+    }
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestHeader(name = "Last-Event-ID", required = false) final Long lastEventId
+    ) {
+        final SseEmitter emitter = new SseEmitter(eventsTimeout.toMillis());
+        final OrderStatusFeed.Subscription subscription = orderStatusFeed.subscribe(
+            type,
+            status,
+            lastEventId,
+            new SseOrderStatusListener(emitter)
+        );
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> stream(
+        @RequestParam(required = false) final OrderStatus status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId
+    ) {
+        final StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                String cursor = null;
+                do {
+                    final OrderPage page = orderService.findPage(status, type, orderTableId, cursor, STREAM_PAGE_SIZE);
+                    for (final Order order : page.orders()) {
+                        generator.writeObject(order);
+                    }
+                    generator.flush();
+                    cursor = page.nextCursor();
+                } while (cursor != null);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
 }
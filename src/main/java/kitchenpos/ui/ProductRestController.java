@@ -36,6 +36,11 @@ public class ProductRestController {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PutMapping("/prices")
+    public ResponseEntity<List<Product>> changePrices(@RequestBody final List<Product> requests) {
+        return ResponseEntity.ok(productService.changePrices(requests));
+    }
+
     @GetMapping
     public ResponseEntity<List<Product>> findAll() {
         return ResponseEntity.ok(productService.findAll());
@@ -0,0 +1,31 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderReport;
+import kitchenpos.application.OrderReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RequestMapping("/api/reports")
+@RestController
+public class ReportRestController {
+    private final OrderReportService orderReportService;
+
+    public ReportRestController(final OrderReportService orderReportService) {
+        this.orderReportService = orderReportService;
+    }
+
+    @GetMapping("/orders")
+    public ResponseEntity<OrderReport> reportOrders(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(defaultValue = "10") final int top
+    ) {
+        return ResponseEntity.ok(orderReportService.report(from, to, top));
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.SalesRollupService;
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.MenuGroupSales;
+import kitchenpos.domain.MenuSales;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequestMapping("/api/sales")
+@RestController
+public class SalesRestController {
+    private final SalesRollupService salesRollupService;
+
+    public SalesRestController(final SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    @GetMapping("/hourly")
+    public ResponseEntity<List<HourlySales>> findHourlySales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(salesRollupService.findHourlySales(from, to));
+    }
+
+    @GetMapping("/menus")
+    public ResponseEntity<List<MenuSales>> findMenuSales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(salesRollupService.findMenuSales(from, to));
+    }
+
+    @GetMapping("/menu-groups")
+    public ResponseEntity<List<MenuGroupSales>> findMenuGroupSales(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(salesRollupService.findMenuGroupSales(from, to));
+    }
+}
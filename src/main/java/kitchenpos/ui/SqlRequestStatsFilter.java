@@ -0,0 +1,70 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kitchenpos.infra.SqlMonitor;
+import kitchenpos.infra.SqlRequestStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Counts the statements each request runs on its own thread and how long they took.
+ * The summary is logged at debug level, and at warn level when the count reaches {@code request-statement-threshold}.
+ * Counts are also recorded as {@code kitchenpos.sql.statements.per.request}, tagged by method and handler pattern.
+ */
+@Component
+public class SqlRequestStatsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlRequestStatsFilter.class);
+
+    private final SqlMonitor sqlMonitor;
+    private final int requestStatementThreshold;
+    private final MeterRegistry meterRegistry;
+
+    public SqlRequestStatsFilter(
+        final SqlMonitor sqlMonitor,
+        @Value("${kitchenpos.sql.request-statement-threshold:50}") final int requestStatementThreshold,
+        final MeterRegistry meterRegistry
+    ) {
+        this.sqlMonitor = sqlMonitor;
+        this.requestStatementThreshold = requestStatementThreshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final SqlRequestStats stats = sqlMonitor.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlMonitor.end();
+            final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("kitchenpos.sql.statements.per.request")
+                .tag("method", request.getMethod())
+                .tag("uri", Objects.isNull(pattern) ? "UNKNOWN" : pattern.toString())
+                .register(meterRegistry)
+                .record(stats.getStatementCount());
+            if (stats.getStatementCount() >= requestStatementThreshold) {
+                log.warn("{} {} ran {} statements in {} ms", request.getMethod(), request.getRequestURI(),
+                    stats.getStatementCount(), stats.getElapsedNanos() / 1_000_000);
+            } else if (log.isDebugEnabled()) {
+                log.debug("{} {} ran {} statements in {} ms", request.getMethod(), request.getRequestURI(),
+                    stats.getStatementCount(), stats.getElapsedNanos() / 1_000_000);
+            }
+        }
+    }
+}
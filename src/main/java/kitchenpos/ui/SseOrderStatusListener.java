@@ -0,0 +1,44 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.OrderStatusEvent;
+import kitchenpos.application.OrderStatusListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+class SseOrderStatusListener implements OrderStatusListener {
+    private static final String EVENT_NAME = "order-status";
+    private static final String RESYNC_EVENT_NAME = "resync";
+
+    private final SseEmitter emitter;
+
+    SseOrderStatusListener(final SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void onEvent(final OrderStatusEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+            .id(String.valueOf(event.id()))
+            .name(EVENT_NAME)
+            .data(event));
+    }
+
+    @Override
+    public void onResync() throws IOException {
+        emitter.send(SseEmitter.event()
+            .name(RESYNC_EVENT_NAME)
+            .data(""));
+    }
+
+    @Override
+    public void onHeartbeat() throws IOException {
+        emitter.send(SseEmitter.event()
+            .comment("heartbeat"));
+    }
+
+    @Override
+    public void onClose() {
+        emitter.complete();
+    }
+}
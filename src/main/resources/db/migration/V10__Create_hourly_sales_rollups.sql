@@ -0,0 +1,21 @@
+create table hourly_sales
+(
+    bucket_start datetime(6)    not null,
+    order_type   varchar(255)   not null,
+    order_count  bigint         not null,
+    revenue      decimal(19, 2) not null,
+    version      bigint         not null,
+    primary key (bucket_start, order_type)
+) engine = InnoDB;
+
+create table hourly_menu_sales
+(
+    bucket_start  datetime(6)    not null,
+    menu_id       binary(16)     not null,
+    menu_group_id binary(16)     not null,
+    order_count   bigint         not null,
+    quantity      bigint         not null,
+    revenue       decimal(19, 2) not null,
+    version       bigint         not null,
+    primary key (bucket_start, menu_id)
+) engine = InnoDB;
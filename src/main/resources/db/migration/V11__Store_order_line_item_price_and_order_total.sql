@@ -0,0 +1,15 @@
+alter table order_line_item
+    add column price decimal(19, 2) not null default 0;
+
+update order_line_item li
+set li.price = (select m.price
+                from menu m
+                where m.id = li.menu_id);
+
+alter table orders
+    add column total_price decimal(19, 2) not null default 0;
+
+update orders o
+set o.total_price = (select coalesce(sum(li.price * li.quantity), 0)
+                     from order_line_item li
+                     where li.order_id = o.id);
@@ -0,0 +1,20 @@
+create table sequence_generator
+(
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+) engine = InnoDB;
+
+insert into sequence_generator (sequence_name, next_val)
+select 'menu_product', coalesce(max(seq), 0) + 50
+from menu_product;
+
+insert into sequence_generator (sequence_name, next_val)
+select 'order_line_item', coalesce(max(seq), 0) + 50
+from order_line_item;
+
+alter table menu_product
+    modify seq bigint not null;
+
+alter table order_line_item
+    modify seq bigint not null;
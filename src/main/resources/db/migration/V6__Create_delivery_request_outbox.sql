@@ -0,0 +1,20 @@
+create table delivery_request
+(
+    order_id         binary(16)     not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    status           varchar(255)   not null,
+    attempts         integer        not null,
+    next_attempt_at  datetime(6)    not null,
+    last_error       varchar(255),
+    version          bigint         not null,
+    primary key (order_id)
+) engine = InnoDB;
+
+create index ix_delivery_request_status_next_attempt_at
+    on delivery_request (status, next_attempt_at);
+
+alter table delivery_request
+    add constraint fk_delivery_request_to_orders
+        foreign key (order_id)
+            references orders (id);
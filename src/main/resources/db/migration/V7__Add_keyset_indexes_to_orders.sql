@@ -0,0 +1,8 @@
+create index ix_orders_order_date_time_id
+    on orders (order_date_time, id);
+
+create index ix_orders_status_order_date_time_id
+    on orders (status, order_date_time, id);
+
+create index ix_orders_order_table_id_order_date_time_id
+    on orders (order_table_id, order_date_time, id);
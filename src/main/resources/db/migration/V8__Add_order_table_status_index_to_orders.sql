@@ -0,0 +1,2 @@
+create index ix_orders_order_table_id_status
+    on orders (order_table_id, status);
@@ -0,0 +1,8 @@
+alter table menu
+    add column menu_products_price decimal(19, 2) not null default 0;
+
+update menu m
+set m.menu_products_price = (select coalesce(sum(p.price * mp.quantity), 0)
+                             from menu_product mp
+                                      join product p on p.id = mp.product_id
+                             where mp.menu_id = m.id);
@@ -0,0 +1,81 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.UUID;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.DeliveryRequestStatus;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.infra.KitchenridersClient;
+import kitchenpos.infra.StubKitchenridersClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+@SpringBootTest
+class DeliveryDispatcherTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+
+    @Autowired
+    private DeliveryDispatcher deliveryDispatcher;
+
+    @Autowired
+    private StubKitchenridersClient kitchenridersClient;
+
+    @DisplayName("배달 요청이 실패하면 재시도하고, 성공한 요청은 다시 보내지 않는다.")
+    @Test
+    void retry_failed_delivery_request_and_send_once_after_success() {
+        // given
+        UUID orderId = saveWaitingDeliveryOrder().getId();
+        orderService.accept(orderId);
+        kitchenridersClient.failNext(1);
+
+        // when
+        deliveryDispatcher.dispatchPending();
+        deliveryDispatcher.dispatchPending();
+        deliveryDispatcher.dispatchPending();
+
+        // then
+        assertThat(kitchenridersClient.getRequestedOrderIds()).filteredOn(orderId::equals).hasSize(2);
+        assertThat(deliveryRequestRepository.findById(orderId))
+                .hasValueSatisfying(request -> assertThat(request.getStatus()).isEqualTo(DeliveryRequestStatus.SENT));
+    }
+
+    private Order saveWaitingDeliveryOrder() {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(OrderType.DELIVERY);
+        order.setStatus(OrderStatus.WAITING);
+        order.setOrderDateTime(LocalDateTime.now());
+        order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        order.setOrderLineItems(new ArrayList<>());
+        return orderRepository.save(order);
+    }
+
+    @TestConfiguration
+    static class StubKitchenridersClientConfig {
+
+        @Bean
+        @Primary
+        StubKitchenridersClient stubKitchenridersClient() {
+            return new StubKitchenridersClient();
+        }
+    }
+}
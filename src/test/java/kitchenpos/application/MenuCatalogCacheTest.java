@@ -0,0 +1,45 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class MenuCatalogCacheTest {
+
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @DisplayName("캐시된 메뉴 목록을 다시 조회하면 적중 횟수가 증가한다.")
+    @Test
+    void find_all_twice_then_hit() {
+        // given
+        menuCatalogCache.invalidate();
+        menuCatalogCache.findAll();
+        long hitCount = menuCatalogCache.stats().hitCount();
+
+        // when
+        menuCatalogCache.findAll();
+
+        // then
+        assertThat(menuCatalogCache.stats().hitCount()).isEqualTo(hitCount + 1);
+    }
+
+    @DisplayName("캐시를 무효화하면 다음 조회는 실패 횟수가 증가한다.")
+    @Test
+    void find_all_after_invalidate_then_miss() {
+        // given
+        menuCatalogCache.findAll();
+        long missCount = menuCatalogCache.stats().missCount();
+
+        // when
+        menuCatalogCache.invalidate();
+        menuCatalogCache.findAll();
+
+        // then
+        assertThat(menuCatalogCache.stats().missCount()).isEqualTo(missCount + 1);
+    }
+}
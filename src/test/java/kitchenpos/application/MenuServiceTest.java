@@ -0,0 +1,46 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kitchenpos.support.SqlStatementCounter;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class MenuServiceTest {
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuCatalogCache menuCatalogCache;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("모든 메뉴 조회 쿼리 수는 메뉴와 메뉴 상품의 개수와 무관하다.")
+    @Test
+    void find_all_select_count_does_not_depend_on_menu_count() {
+        // given
+        fixtures.saveMenuWithProducts(1);
+        menuCatalogCache.invalidate();
+        SqlStatementCounter.clear();
+        menuService.findAll();
+        int fewMenusSelects = SqlStatementCounter.selectCount();
+        for (int i = 0; i < 5; i++) {
+            fixtures.saveMenuWithProducts(3);
+        }
+        menuCatalogCache.invalidate();
+
+        // when
+        SqlStatementCounter.clear();
+        menuService.findAll();
+        int manyMenusSelects = SqlStatementCounter.selectCount();
+
+        // then
+        assertThat(manyMenusSelects).isEqualTo(fewMenusSelects);
+    }
+}
@@ -0,0 +1,107 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OrderReportServiceTest {
+
+    @Autowired
+    private OrderReportService orderReportService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("완료된 주문을 시간 구간별로 병렬 집계해도 메뉴별 판매량과 매출, 주문 유형별 통계, 매장 주문 통계가 정확하다.")
+    @Test
+    void report_aggregates_completed_orders_across_slices() {
+        // given
+        Menu menu = fixtures.saveMenu();
+        OrderTable orderTable = fixtures.saveOccupiedOrderTable();
+        LocalDateTime from = LocalDateTime.of(2001, 1, 1, 0, 0);
+        LocalDateTime to = from.plusHours(4);
+        saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, from.plusMinutes(30), menu, 2, null);
+        saveOrder(OrderType.EAT_IN, OrderStatus.COMPLETED, from.plusMinutes(90), menu, 1, orderTable);
+        saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, from.plusMinutes(150), menu, 3, null);
+        saveOrder(OrderType.EAT_IN, OrderStatus.COMPLETED, from.plusMinutes(210), menu, 1, orderTable);
+        saveOrder(OrderType.DELIVERY, OrderStatus.DELIVERING, from.plusMinutes(220), menu, 5, null);
+        saveOrder(OrderType.TAKEOUT, OrderStatus.COMPLETED, to, menu, 5, null);
+
+        // when
+        OrderReport report = orderReportService.report(from, to, OrderReportService.MAX_TOP);
+
+        // then
+        assertThat(report.topMenus()).singleElement()
+                .satisfies(row -> {
+                    assertThat(row.menuId()).isEqualTo(menu.getId());
+                    assertThat(row.name()).isEqualTo(menu.getName());
+                    assertThat(row.quantity()).isEqualTo(7);
+                    assertThat(row.revenue()).isEqualByComparingTo(BigDecimal.valueOf(112_000));
+                });
+        assertThat(report.orderTypes()).satisfiesExactlyInAnyOrder(
+                row -> assertOrderType(row, OrderType.DELIVERY, 0, 0, 0),
+                row -> assertOrderType(row, OrderType.TAKEOUT, 2, 80_000, 40_000),
+                row -> assertOrderType(row, OrderType.EAT_IN, 2, 32_000, 16_000)
+        );
+        assertThat(report.guests()).isEqualTo(new OrderReport.GuestRow(2, 1));
+    }
+
+    private void assertOrderType(
+            OrderReport.OrderTypeRow row,
+            OrderType type,
+            long orderCount,
+            long revenue,
+            long averageTicket
+    ) {
+        assertThat(row.type()).isEqualTo(type);
+        assertThat(row.orderCount()).isEqualTo(orderCount);
+        assertThat(row.revenue()).isEqualByComparingTo(BigDecimal.valueOf(revenue));
+        assertThat(row.averageTicket()).isEqualByComparingTo(BigDecimal.valueOf(averageTicket));
+    }
+
+    private void saveOrder(
+            OrderType type,
+            OrderStatus status,
+            LocalDateTime orderDateTime,
+            Menu menu,
+            long quantity,
+            OrderTable orderTable
+    ) {
+        OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(quantity);
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(type);
+        order.setStatus(status);
+        order.setOrderDateTime(orderDateTime);
+        order.setOrderLineItems(new ArrayList<>(List.of(orderLineItem)));
+        order.setTotalPrice(menu.getPrice().multiply(BigDecimal.valueOf(quantity)));
+        order.setOrderTable(orderTable);
+        if (type == OrderType.DELIVERY) {
+            order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        }
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,421 @@
+package kitchenpos.application;
+
+import static kitchenpos.support.TestFixtures.takeoutOrderRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.DeliveryRequest;
+import kitchenpos.domain.DeliveryRequestRepository;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import kitchenpos.support.SqlStatementCounter;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+@SpringBootTest
+class OrderServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DeliveryRequestRepository deliveryRequestRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("주문 생성 시 메뉴 조회 쿼리 수는 주문 상세 항목의 개수와 무관하다.")
+    @Test
+    void create_order_select_count_does_not_depend_on_line_item_count() {
+        // given
+        orderService.create(takeoutOrderRequest(fixtures.saveMenus(1)));
+        Order single = takeoutOrderRequest(fixtures.saveMenus(1));
+        Order party = takeoutOrderRequest(fixtures.saveMenus(20));
+
+        // when
+        SqlStatementCounter.clear();
+        orderService.create(single);
+        int singleSelects = SqlStatementCounter.selectCount();
+
+        SqlStatementCounter.clear();
+        orderService.create(party);
+        int partySelects = SqlStatementCounter.selectCount();
+
+        // then
+        assertThat(partySelects).isEqualTo(singleSelects);
+    }
+
+    @DisplayName("주문 상세 항목은 JDBC 배치로 저장되어 INSERT 문 수가 주문 상세 항목의 개수와 무관하다.")
+    @Test
+    void create_order_insert_count_does_not_depend_on_line_item_count() {
+        // given
+        orderService.create(takeoutOrderRequest(fixtures.saveMenus(1)));
+        Order single = takeoutOrderRequest(fixtures.saveMenus(1));
+        Order party = takeoutOrderRequest(fixtures.saveMenus(10));
+
+        // when
+        SqlStatementCounter.clear();
+        orderService.create(single);
+        int singleInserts = SqlStatementCounter.insertCount();
+
+        SqlStatementCounter.clear();
+        orderService.create(party);
+        int partyInserts = SqlStatementCounter.insertCount();
+
+        // then
+        assertThat(partyInserts).isEqualTo(singleInserts);
+    }
+
+    @DisplayName("주문을 일괄 생성하면 주문마다 독립적으로 검증한 결과를 반환한다.")
+    @Test
+    void create_all_orders_reports_result_per_order() {
+        // given
+        List<Menu> menus = fixtures.saveMenus(2);
+        Order valid = takeoutOrderRequest(menus);
+        Order invalid = takeoutOrderRequest(menus);
+        invalid.setType(null);
+
+        // when
+        List<OrderCreateResult> results = orderService.createAll(List.of(valid, invalid));
+
+        // then
+        assertThat(results).extracting(OrderCreateResult::created)
+                .containsExactly(true, false);
+        assertThat(results.get(0).orderId()).isNotNull();
+        assertThat(results.get(1).error()).isEqualTo("IllegalArgumentException");
+    }
+
+    @DisplayName("일괄 생성할 주문 수가 최대치를 넘으면 아무 주문도 생성하지 않고 예외가 발생한다.")
+    @Test
+    void create_all_orders_rejects_batch_over_max_size() {
+        // given
+        List<Menu> menus = fixtures.saveMenus(1);
+        List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requests.add(takeoutOrderRequest(menus));
+        }
+        long orderCount = orderRepository.count();
+
+        // when, then
+        assertThatThrownBy(() -> orderService.createAll(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(orderService.createAll(requests.subList(0, 100))).hasSize(100)
+                .allMatch(OrderCreateResult::created);
+        assertThat(orderRepository.count()).isEqualTo(orderCount + 100);
+    }
+
+    @DisplayName("커서를 이용해 주문 테이블의 주문을 주문 시간 순으로 나누어 조회한다.")
+    @Test
+    void find_page_by_cursor() {
+        // given
+        OrderTable orderTable = fixtures.saveOccupiedOrderTable();
+        List<Menu> menus = fixtures.saveMenus(1);
+        for (int i = 0; i < 3; i++) {
+            Order request = takeoutOrderRequest(menus);
+            request.setType(OrderType.EAT_IN);
+            request.setOrderTableId(orderTable.getId());
+            orderService.create(request);
+        }
+
+        // when
+        OrderPage first = orderService.findPage(null, OrderType.EAT_IN, orderTable.getId(), null, 2);
+        OrderPage second = orderService.findPage(null, OrderType.EAT_IN, orderTable.getId(), first.nextCursor(), 2);
+
+        // then
+        assertThat(first.orders()).hasSize(2);
+        assertThat(first.nextCursor()).isNotNull();
+        assertThat(second.orders()).hasSize(1);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @DisplayName("모든 주문 조회 쿼리 수는 주문의 개수와 무관하다.")
+    @Test
+    void find_all_select_count_does_not_depend_on_order_count() {
+        // given
+        orderService.create(takeoutOrderRequest(fixtures.saveMenus(2)));
+        SqlStatementCounter.clear();
+        orderService.findAll();
+        int fewOrdersSelects = SqlStatementCounter.selectCount();
+        for (int i = 0; i < 5; i++) {
+            Order request = takeoutOrderRequest(fixtures.saveMenus(3));
+            request.setType(OrderType.EAT_IN);
+            request.setOrderTableId(fixtures.saveOccupiedOrderTable().getId());
+            orderService.create(request);
+        }
+
+        // when
+        SqlStatementCounter.clear();
+        orderService.findAll();
+        int manyOrdersSelects = SqlStatementCounter.selectCount();
+
+        // then
+        assertThat(manyOrdersSelects).isEqualTo(fewOrdersSelects);
+    }
+
+    @DisplayName("여러 스레드가 동시에 주문 상태를 변경해도 각 상태 변경은 한 번만 적용되어 모든 주문이 완료된다.")
+    @Test
+    void concurrent_transitions_apply_each_status_change_once() throws Exception {
+        // given
+        List<Menu> menus = fixtures.saveMenus(1);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            orderIds.add(orderService.create(takeoutOrderRequest(menus)).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (UUID orderId : orderIds) {
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    ignoreConflict(() -> orderService.accept(orderId));
+                    ignoreConflict(() -> orderService.serve(orderId));
+                    ignoreConflict(() -> orderService.complete(orderId));
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(orderRepository.findAllById(orderIds))
+                .hasSize(orderIds.size())
+                .allSatisfy(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                    assertThat(order.getVersion()).isEqualTo(3L);
+                });
+    }
+
+    @DisplayName("여러 스레드가 동시에 배달 주문과 매장 주문의 상태를 변경해도 각 상태 변경과 배달 요청은 한 번만 적용된다.")
+    @Test
+    void concurrent_transitions_of_delivery_and_eat_in_orders_apply_once() throws Exception {
+        // given
+        List<Menu> menus = fixtures.saveMenus(1);
+        List<UUID> deliveryOrderIds = new ArrayList<>();
+        List<UUID> eatInOrderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order delivery = takeoutOrderRequest(menus);
+            delivery.setType(OrderType.DELIVERY);
+            delivery.setDeliveryAddress("서울시 송파구 위례성대로 2");
+            deliveryOrderIds.add(orderService.create(delivery).getId());
+
+            Order eatIn = takeoutOrderRequest(menus);
+            eatIn.setType(OrderType.EAT_IN);
+            eatIn.setOrderTableId(fixtures.saveOccupiedOrderTable().getId());
+            eatInOrderIds.add(orderService.create(eatIn).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            for (UUID orderId : deliveryOrderIds) {
+                futures.add(executor.submit(() -> {
+                    ignoreConflict(() -> orderService.accept(orderId));
+                    ignoreConflict(() -> orderService.serve(orderId));
+                    ignoreConflict(() -> orderService.startDelivery(orderId));
+                    ignoreConflict(() -> orderService.completeDelivery(orderId));
+                    ignoreConflict(() -> orderService.complete(orderId));
+                }));
+            }
+            for (UUID orderId : eatInOrderIds) {
+                futures.add(executor.submit(() -> {
+                    ignoreConflict(() -> orderService.accept(orderId));
+                    ignoreConflict(() -> orderService.serve(orderId));
+                    ignoreConflict(() -> orderService.complete(orderId));
+                }));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(orderRepository.findAllById(deliveryOrderIds))
+                .hasSize(deliveryOrderIds.size())
+                .allSatisfy(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                    assertThat(order.getVersion()).isEqualTo(5L);
+                });
+        assertThat(deliveryRequestRepository.findAllById(deliveryOrderIds)).hasSize(deliveryOrderIds.size());
+        assertThat(orderRepository.findAllById(eatInOrderIds))
+                .hasSize(eatInOrderIds.size())
+                .allSatisfy(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+                    assertThat(order.getVersion()).isEqualTo(3L);
+                    assertThat(order.getOrderTable().isOccupied()).isFalse();
+                });
+    }
+
+    @DisplayName("주문 상태만 반환하는 접수와 서빙은 조회 없이 UPDATE 한 번으로 처리된다.")
+    @Test
+    void status_only_transitions_issue_single_update() {
+        // given
+        UUID orderId = orderService.create(takeoutOrderRequest(fixtures.saveMenus(1))).getId();
+
+        // when
+        SqlStatementCounter.clear();
+        OrderStatusResult accepted = orderService.acceptAndGetStatus(orderId);
+        int acceptSelects = SqlStatementCounter.selectCount();
+        int acceptUpdates = SqlStatementCounter.updateCount();
+
+        SqlStatementCounter.clear();
+        OrderStatusResult served = orderService.serveAndGetStatus(orderId);
+        int serveSelects = SqlStatementCounter.selectCount();
+        int serveUpdates = SqlStatementCounter.updateCount();
+
+        // then
+        assertThat(accepted.status()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(served.status()).isEqualTo(OrderStatus.SERVED);
+        assertThat(acceptSelects).isZero();
+        assertThat(acceptUpdates).isEqualTo(1);
+        assertThat(serveSelects).isZero();
+        assertThat(serveUpdates).isEqualTo(1);
+        assertThat(orderRepository.findById(orderId)).get()
+                .extracting(Order::getStatus)
+                .isEqualTo(OrderStatus.SERVED);
+    }
+
+    @DisplayName("배달 주문을 상태만 반환하도록 접수하면 헛된 UPDATE 없이 배달 요청과 함께 접수된다.")
+    @Test
+    void status_only_accept_of_delivery_order_requests_delivery() {
+        // given
+        Order request = takeoutOrderRequest(fixtures.saveMenus(1));
+        request.setType(OrderType.DELIVERY);
+        request.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        UUID orderId = orderService.create(request).getId();
+
+        // when
+        SqlStatementCounter.clear();
+        OrderStatusResult accepted = orderService.acceptAndGetStatus(orderId);
+        int acceptUpdates = SqlStatementCounter.updateCount();
+
+        // then
+        assertThat(accepted.status()).isEqualTo(OrderStatus.ACCEPTED);
+        assertThat(acceptUpdates).isEqualTo(1);
+        assertThat(deliveryRequestRepository.findById(orderId)).isPresent();
+    }
+
+    @DisplayName("여러 주문의 상태를 한 번에 변경하면 조회 한 번과 UPDATE 한 번으로 처리되고, 변경할 수 없는 주문은 실패로 보고된다.")
+    @Test
+    void change_all_orders_with_single_select_and_update() {
+        // given
+        List<Menu> menus = fixtures.saveMenus(1);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID orderId = orderService.create(takeoutOrderRequest(menus)).getId();
+            orderService.accept(orderId);
+            orderIds.add(orderId);
+        }
+        UUID waitingOrderId = orderService.create(takeoutOrderRequest(menus)).getId();
+        UUID missingOrderId = UUID.randomUUID();
+        List<UUID> requestedIds = new ArrayList<>(orderIds);
+        requestedIds.add(waitingOrderId);
+        requestedIds.add(missingOrderId);
+
+        // when
+        SqlStatementCounter.clear();
+        List<OrderTransitionResult> results = orderService.changeAll(OrderTransition.SERVE, requestedIds);
+        int selects = SqlStatementCounter.selectCount();
+        int updates = SqlStatementCounter.updateCount();
+
+        // then
+        assertThat(selects).isEqualTo(1);
+        assertThat(updates).isEqualTo(1);
+        assertThat(results).hasSize(requestedIds.size());
+        assertThat(results.subList(0, orderIds.size())).allMatch(OrderTransitionResult::changed);
+        assertThat(results.get(orderIds.size()).error()).isEqualTo("IllegalStateException");
+        assertThat(results.get(orderIds.size() + 1).error()).isEqualTo("NoSuchElementException");
+        assertThat(orderRepository.findAllById(orderIds))
+                .allSatisfy(order -> assertThat(order.getStatus()).isEqualTo(OrderStatus.SERVED));
+        assertThat(orderRepository.findById(waitingOrderId)).get()
+                .extracting(Order::getStatus)
+                .isEqualTo(OrderStatus.WAITING);
+    }
+
+    @DisplayName("여러 배달 주문의 일괄 접수와 개별 접수가 동시에 일어나도 각 주문은 한 번만 접수되고 배달 요청도 한 번만 저장된다.")
+    @Test
+    void overlapping_bulk_and_single_accepts_request_delivery_once() throws Exception {
+        // given
+        List<Menu> menus = fixtures.saveMenus(1);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Order request = takeoutOrderRequest(menus);
+            request.setType(OrderType.DELIVERY);
+            request.setDeliveryAddress("서울시 송파구 위례성대로 2");
+            orderIds.add(orderService.create(request).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(executor.submit(() -> ignoreConflict(() -> orderService.changeAll(OrderTransition.ACCEPT, orderIds))));
+            for (UUID orderId : orderIds) {
+                futures.add(executor.submit(() -> ignoreConflict(() -> orderService.accept(orderId))));
+            }
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(orderRepository.findAllById(orderIds))
+                .allSatisfy(order -> {
+                    assertThat(order.getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+                    assertThat(order.getVersion()).isEqualTo(1L);
+                });
+        assertThat(deliveryRequestRepository.findAllById(orderIds)).hasSize(orderIds.size());
+    }
+
+    @DisplayName("주문 생성 시 주문 총액을 저장하고, 배달 주문 접수 시 저장된 총액으로 배달을 요청한다.")
+    @Test
+    void accept_delivery_order_requests_stored_total_price() {
+        // given
+        List<Menu> menus = fixtures.saveMenus(2);
+        Order request = takeoutOrderRequest(menus);
+        request.getOrderLineItems().get(0).setQuantity(2);
+        request.setType(OrderType.DELIVERY);
+        request.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        Order order = orderService.create(request);
+
+        // when
+        orderService.accept(order.getId());
+
+        // then
+        assertThat(order.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(48_000));
+        assertThat(deliveryRequestRepository.findById(order.getId())).get()
+                .extracting(DeliveryRequest::getAmount)
+                .satisfies(amount -> assertThat(amount).isEqualByComparingTo(BigDecimal.valueOf(48_000)));
+    }
+
+    private void ignoreConflict(Runnable transition) {
+        try {
+            transition.run();
+        } catch (IllegalStateException | OptimisticLockingFailureException ignored) {
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class OrderStatusFeedTest {
+
+    @Autowired
+    private OrderStatusFeed orderStatusFeed;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DisplayName("트랜잭션 안에서 발행한 상태 변경은 커밋된 후에만 전달되고, 롤백되면 전달되지 않는다.")
+    @Test
+    void publish_after_commit_only() {
+        // given
+        long lastEventId = latestEventId();
+        UUID committedOrderId = UUID.randomUUID();
+        UUID rolledBackOrderId = UUID.randomUUID();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            orderStatusFeed.publish(committedOrderId, OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+            assertThat(orderStatusFeed.eventsAfter(lastEventId)).isEmpty();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            orderStatusFeed.publish(rolledBackOrderId, OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(orderStatusFeed.eventsAfter(lastEventId))
+                .extracting(OrderStatusEvent::orderId)
+                .containsExactly(committedOrderId);
+    }
+
+    @DisplayName("마지막 이벤트 번호로 구독하면 놓친 이벤트 중 필터에 맞는 것부터 받는다.")
+    @Test
+    void subscribe_resumes_after_last_event_id_with_filter() throws Exception {
+        // given
+        long lastEventId = latestEventId();
+        UUID eatInOrderId = UUID.randomUUID();
+        orderStatusFeed.publish(eatInOrderId, OrderType.EAT_IN, OrderStatus.WAITING);
+        orderStatusFeed.publish(UUID.randomUUID(), OrderType.DELIVERY, OrderStatus.WAITING);
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        OrderStatusFeed.Subscription subscription = orderStatusFeed.subscribe(
+                OrderType.EAT_IN,
+                OrderStatus.WAITING,
+                lastEventId,
+                listener
+        );
+        UUID liveOrderId = UUID.randomUUID();
+        orderStatusFeed.publish(liveOrderId, OrderType.EAT_IN, OrderStatus.WAITING);
+
+        // then
+        assertThat(listener.events.poll(5, TimeUnit.SECONDS).orderId()).isEqualTo(eatInOrderId);
+        assertThat(listener.events.poll(5, TimeUnit.SECONDS).orderId()).isEqualTo(liveOrderId);
+        assertThat(listener.resynced).isFalse();
+        subscription.close();
+    }
+
+    @DisplayName("큐가 넘친 구독은 피드 잠금 밖에서 한 번만 닫히므로 느리게 닫혀도 다른 발행을 막지 않는다.")
+    @Test
+    void overflowing_subscription_closes_once_outside_feed_lock() throws Exception {
+        // given
+        OrderStatusFeed feed = new OrderStatusFeed(orderRepository, 100, 1, Duration.ofMinutes(1));
+        CountDownLatch closing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger closeCount = new AtomicInteger();
+        OrderStatusFeed.Subscription subscription = feed.subscribe(null, null, null, new RecordingListener() {
+            @Override
+            public void onEvent(OrderStatusEvent event) {
+                await(release);
+            }
+
+            @Override
+            public void onClose() {
+                closeCount.incrementAndGet();
+                closing.countDown();
+                await(release);
+            }
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // when
+        Future<?> overflowing = executor.submit(() -> {
+            for (int i = 0; i < 3; i++) {
+                feed.publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+            }
+        });
+        assertThat(closing.await(5, TimeUnit.SECONDS)).isTrue();
+        UUID orderId = UUID.randomUUID();
+        List<OrderStatusEvent> events = CompletableFuture.supplyAsync(() -> {
+            feed.publish(orderId, OrderType.TAKEOUT, OrderStatus.WAITING);
+            return feed.eventsAfter(Long.MIN_VALUE);
+        }).get(1, TimeUnit.SECONDS);
+        release.countDown();
+        overflowing.get(5, TimeUnit.SECONDS);
+        subscription.close();
+        executor.shutdown();
+        feed.shutdown();
+
+        // then
+        assertThat(events).extracting(OrderStatusEvent::orderId).contains(orderId);
+        assertThat(closeCount).hasValue(1);
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long latestEventId() {
+        List<OrderStatusEvent> events = orderStatusFeed.eventsAfter(Long.MIN_VALUE);
+        if (events.isEmpty()) {
+            orderStatusFeed.publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+            events = orderStatusFeed.eventsAfter(Long.MIN_VALUE);
+        }
+        return events.get(events.size() - 1).id();
+    }
+
+    private static class RecordingListener implements OrderStatusListener {
+        private final BlockingQueue<OrderStatusEvent> events = new LinkedBlockingQueue<>();
+        private volatile boolean resynced;
+
+        @Override
+        public void onEvent(OrderStatusEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onResync() {
+            resynced = true;
+        }
+
+        @Override
+        public void onHeartbeat() {
+        }
+
+        @Override
+        public void onClose() {
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ProductServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("상품 가격을 변경하면 메뉴 상품 가격 합은 변경된 금액과 수량만큼 갱신된다.")
+    @Test
+    void change_price_updates_menu_products_price_by_delta() {
+        // given
+        Product product = fixtures.saveProduct(16_000);
+        Menu menu = fixtures.saveMenu(product, 2, 30_000);
+
+        // when
+        productService.changePrice(product.getId(), price(17_000));
+
+        // then
+        Menu actual = menuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(actual.getMenuProductsPrice()).isEqualByComparingTo("34000");
+        assertThat(actual.isDisplayed()).isTrue();
+    }
+
+    @DisplayName("상품 가격을 변경하여 메뉴 가격이 메뉴 상품 가격 합보다 비싸지면 메뉴를 숨긴다.")
+    @Test
+    void change_price_hides_menu_more_expensive_than_menu_products() {
+        // given
+        Product product = fixtures.saveProduct(16_000);
+        Menu menu = fixtures.saveMenu(product, 2, 30_000);
+
+        // when
+        productService.changePrice(product.getId(), price(14_000));
+
+        // then
+        Menu actual = menuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(actual.getMenuProductsPrice()).isEqualByComparingTo("28000");
+        assertThat(actual.isDisplayed()).isFalse();
+    }
+
+    @DisplayName("같은 메뉴에 속한 상품들의 가격을 동시에 변경해도 메뉴 상품 가격 합에 모든 변경 금액이 반영된다.")
+    @Test
+    void concurrent_price_changes_of_products_in_same_menu_apply_every_delta() throws Exception {
+        // given
+        Menu menu = fixtures.saveMenuWithProducts(3);
+        List<Product> products = menu.getMenuProducts()
+                .stream()
+                .map(MenuProduct::getProduct)
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(products.size());
+
+        // when
+        List<Future<Product>> futures = new ArrayList<>();
+        for (Product product : products) {
+            futures.add(executor.submit(() -> productService.changePrice(product.getId(), price(17_000))));
+        }
+        for (Future<Product> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(productRepository.findAllById(products.stream().map(Product::getId).toList()))
+                .hasSize(products.size())
+                .allSatisfy(product -> assertThat(product.getPrice()).isEqualByComparingTo("17000"));
+        Menu actual = menuRepository.findById(menu.getId()).orElseThrow();
+        assertThat(actual.getMenuProductsPrice()).isEqualByComparingTo("51000");
+        assertThat(actual.isDisplayed()).isTrue();
+    }
+
+    @DisplayName("여러 상품의 가격을 한 번에 변경하면 영향을 받는 메뉴의 가격 합을 다시 계산하고 비싸진 메뉴를 숨긴다.")
+    @Test
+    void change_prices_recomputes_and_hides_affected_menus() {
+        // given
+        Product fried = fixtures.saveProduct(16_000);
+        Product seasoned = fixtures.saveProduct(17_000);
+        Menu friedMenu = fixtures.saveMenu(fried, 2, 30_000);
+        Menu seasonedMenu = fixtures.saveMenu(seasoned, 1, 17_000);
+        Product friedRequest = price(18_000);
+        friedRequest.setId(fried.getId());
+        Product seasonedRequest = price(15_000);
+        seasonedRequest.setId(seasoned.getId());
+
+        // when
+        productService.changePrices(List.of(friedRequest, seasonedRequest));
+
+        // then
+        Menu actualFriedMenu = menuRepository.findById(friedMenu.getId()).orElseThrow();
+        Menu actualSeasonedMenu = menuRepository.findById(seasonedMenu.getId()).orElseThrow();
+        assertThat(actualFriedMenu.getMenuProductsPrice()).isEqualByComparingTo("36000");
+        assertThat(actualFriedMenu.isDisplayed()).isTrue();
+        assertThat(actualSeasonedMenu.getMenuProductsPrice()).isEqualByComparingTo("15000");
+        assertThat(actualSeasonedMenu.isDisplayed()).isFalse();
+    }
+
+    private Product price(long price) {
+        Product request = new Product();
+        request.setPrice(BigDecimal.valueOf(price));
+        return request;
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.application;
+
+import static kitchenpos.support.TestFixtures.takeoutOrderRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kitchenpos.domain.HourlySales;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuSales;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderType;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SalesRollupServiceTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("주문을 완료하면 시간대별 매출과 메뉴별 매출 집계가 증가한다.")
+    @Test
+    void complete_order_then_rollups_increase() {
+        // given
+        Menu menu = fixtures.saveMenu();
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        LocalDateTime to = from.plusHours(3);
+        BigDecimal takeoutRevenue = takeoutRevenue(from, to);
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            UUID orderId = orderService.create(takeoutOrderRequest(menu, 3)).getId();
+            orderService.accept(orderId);
+            orderService.serve(orderId);
+            orderService.complete(orderId);
+        }
+
+        // then
+        assertThat(takeoutRevenue(from, to)).isEqualByComparingTo(takeoutRevenue.add(BigDecimal.valueOf(96_000)));
+        List<MenuSales> menuSales = salesRollupService.findMenuSales(from, to);
+        assertThat(menuSales)
+                .filteredOn(sales -> sales.menuId().equals(menu.getId()))
+                .singleElement()
+                .satisfies(sales -> {
+                    assertThat(sales.orderCount()).isEqualTo(2);
+                    assertThat(sales.quantity()).isEqualTo(6);
+                    assertThat(sales.revenue()).isEqualByComparingTo(BigDecimal.valueOf(96_000));
+                });
+    }
+
+    @DisplayName("여러 주문을 한 번에 완료하면 같은 메뉴와 시간대의 매출이 합쳐져 한 번에 반영된다.")
+    @Test
+    void complete_all_orders_then_rollups_are_merged() {
+        // given
+        Menu menu = fixtures.saveMenu();
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(1);
+        LocalDateTime to = from.plusHours(3);
+        BigDecimal takeoutRevenue = takeoutRevenue(from, to);
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UUID orderId = orderService.create(takeoutOrderRequest(menu, 2)).getId();
+            orderService.accept(orderId);
+            orderService.serve(orderId);
+            orderIds.add(orderId);
+        }
+
+        // when
+        orderService.changeAll(OrderTransition.COMPLETE, orderIds);
+
+        // then
+        assertThat(takeoutRevenue(from, to)).isEqualByComparingTo(takeoutRevenue.add(BigDecimal.valueOf(96_000)));
+        assertThat(salesRollupService.findMenuSales(from, to))
+                .filteredOn(sales -> sales.menuId().equals(menu.getId()))
+                .singleElement()
+                .satisfies(sales -> {
+                    assertThat(sales.orderCount()).isEqualTo(3);
+                    assertThat(sales.quantity()).isEqualTo(6);
+                    assertThat(sales.revenue()).isEqualByComparingTo(BigDecimal.valueOf(96_000));
+                });
+    }
+
+    private BigDecimal takeoutRevenue(LocalDateTime from, LocalDateTime to) {
+        return salesRollupService.findHourlySales(from, to).stream()
+                .filter(sales -> sales.getId().getOrderType() == OrderType.TAKEOUT)
+                .map(HourlySales::getRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
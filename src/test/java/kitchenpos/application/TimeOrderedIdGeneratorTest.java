@@ -0,0 +1,56 @@
+package kitchenpos.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+    @DisplayName("버전 7 UUID를 생성하고 앞 48비트에 밀리초 타임스탬프를 담는다.")
+    @Test
+    void generate_version_7() {
+        // given
+        Instant now = Instant.parse("2024-05-01T12:00:00Z");
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(Clock.fixed(now, ZoneOffset.UTC));
+
+        // when
+        UUID id = generator.generate();
+
+        // then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now.toEpochMilli());
+    }
+
+    @DisplayName("같은 밀리초 안에서 생성해도 바이트 순서대로 증가하고 중복되지 않는다.")
+    @Test
+    void generate_monotonic_within_same_millisecond() {
+        // given
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(
+                Clock.fixed(Instant.parse("2024-05-01T12:00:00Z"), ZoneOffset.UTC)
+        );
+
+        // when
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate());
+        }
+
+        // then
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Long.compareUnsigned(
+                    ids.get(i - 1).getMostSignificantBits(),
+                    ids.get(i).getMostSignificantBits()
+            )).isNegative();
+        }
+    }
+}
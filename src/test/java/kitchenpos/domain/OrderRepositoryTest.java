@@ -0,0 +1,86 @@
+package kitchenpos.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.UUID;
+import kitchenpos.support.TestFixtures;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OrderRepositoryTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @DisplayName("완료된 주문만 있는 테이블은 완료되지 않은 주문이 없다.")
+    @Test
+    void table_with_only_completed_orders_has_no_open_orders() {
+        // given
+        OrderTable orderTable = fixtures.saveOccupiedOrderTable();
+        saveEatInOrder(orderTable, OrderStatus.COMPLETED);
+        saveEatInOrder(orderTable, OrderStatus.COMPLETED);
+
+        // when
+        boolean actual = orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    @DisplayName("완료되지 않은 주문이 하나라도 있는 테이블은 상태와 관계없이 완료되지 않은 주문이 있다.")
+    @ParameterizedTest
+    @EnumSource(value = OrderStatus.class, names = "COMPLETED", mode = EnumSource.Mode.EXCLUDE)
+    void table_with_one_open_order_has_open_orders(OrderStatus status) {
+        // given
+        OrderTable orderTable = fixtures.saveOccupiedOrderTable();
+        saveEatInOrder(orderTable, OrderStatus.COMPLETED);
+        saveEatInOrder(orderTable, status);
+
+        // when
+        boolean actual = orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("주문이 없는 테이블은 완료되지 않은 주문이 없다.")
+    @Test
+    void table_without_orders_has_no_open_orders() {
+        // given
+        OrderTable orderTable = fixtures.saveOccupiedOrderTable();
+        saveEatInOrder(fixtures.saveOccupiedOrderTable(), OrderStatus.WAITING);
+
+        // when
+        boolean actual = orderRepository.existsByOrderTableAndStatusIn(
+                orderTable,
+                EnumSet.complementOf(EnumSet.of(OrderStatus.COMPLETED))
+        );
+
+        // then
+        assertThat(actual).isFalse();
+    }
+
+    private void saveEatInOrder(OrderTable orderTable, OrderStatus status) {
+        Order order = new Order();
+        order.setId(UUID.randomUUID());
+        order.setType(OrderType.EAT_IN);
+        order.setStatus(status);
+        order.setOrderDateTime(LocalDateTime.now());
+        order.setOrderLineItems(new ArrayList<>());
+        order.setTotalPrice(BigDecimal.ZERO);
+        order.setOrderTable(orderTable);
+        orderRepository.save(order);
+    }
+}
@@ -0,0 +1,125 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingProfanityFilterTest {
+
+    @DisplayName("같은 이름을 다시 검사하면 원격 호출 없이 캐시된 결과를 반환한다.")
+    @Test
+    void repeated_text_is_served_from_cache() {
+        // given
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CachingProfanityFilter filter = new CachingProfanityFilter(text -> {
+            remoteCalls.incrementAndGet();
+            return false;
+        }, 100, Duration.ofMinutes(1));
+
+        // when
+        filter.containsProfanity("후라이드 치킨");
+        filter.containsProfanity("  후라이드   치킨 ");
+
+        // then
+        assertThat(remoteCalls).hasValue(1);
+        assertThat(filter.stats().hitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 결과를 제거한다.")
+    @Test
+    void evict_least_recently_used_text() {
+        // given
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CachingProfanityFilter filter = new CachingProfanityFilter(text -> {
+            remoteCalls.incrementAndGet();
+            return false;
+        }, 1, Duration.ofMinutes(1));
+
+        // when
+        filter.containsProfanity("후라이드");
+        filter.containsProfanity("양념치킨");
+        filter.containsProfanity("후라이드");
+
+        // then
+        assertThat(remoteCalls).hasValue(3);
+    }
+
+    @DisplayName("같은 이름을 동시에 검사하면 원격 호출은 한 번만 발생한다.")
+    @Test
+    void concurrent_identical_lookups_are_coalesced() throws Exception {
+        // given
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CachingProfanityFilter filter = new CachingProfanityFilter(text -> {
+            remoteCalls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, 100, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> filter.containsProfanity("양념치킨")));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(remoteCalls).hasValue(1);
+        executor.shutdown();
+    }
+
+    @DisplayName("원격 호출이 불가능하면 대체 정책의 결과를 반환하고 캐시하지 않는다.")
+    @Test
+    void fallback_verdict_is_not_cached() {
+        // given
+        AtomicInteger remoteCalls = new AtomicInteger();
+        CachingProfanityFilter filter = new CachingProfanityFilter(text -> {
+            if (remoteCalls.incrementAndGet() == 1) {
+                throw new ClientUnavailableException("purgomalum call failed");
+            }
+            return true;
+        }, 100, Duration.ofMinutes(1), FallbackPolicy.PERMIT);
+
+        // when
+        boolean fallback = filter.containsProfanity("비속어");
+        boolean remote = filter.containsProfanity("비속어");
+
+        // then
+        assertThat(fallback).isFalse();
+        assertThat(remote).isTrue();
+        assertThat(remoteCalls).hasValue(2);
+    }
+
+    @DisplayName("대체 정책이 실패이면 원격 호출 오류가 그대로 전달된다.")
+    @Test
+    void fail_policy_rethrows_client_unavailable_exception() {
+        // given
+        CachingProfanityFilter filter = new CachingProfanityFilter(text -> {
+            throw new ClientUnavailableException("purgomalum call failed");
+        }, 100, Duration.ofMinutes(1), FallbackPolicy.FAIL);
+
+        // when, then
+        assertThatThrownBy(() -> filter.containsProfanity("비속어"))
+                .isInstanceOf(ClientUnavailableException.class);
+    }
+}
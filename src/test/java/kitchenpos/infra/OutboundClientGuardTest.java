@@ -0,0 +1,141 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OutboundClientGuardTest {
+
+    @DisplayName("연속 실패 횟수가 임계치에 도달하면 회로가 열리고 이후 호출은 원격 호출 없이 대체 응답을 반환한다.")
+    @Test
+    void open_circuit_after_consecutive_failures() {
+        // given
+        OutboundClientSettings settings = new OutboundClientSettings();
+        settings.setFailureThreshold(2);
+        settings.setOpenDuration(Duration.ofMinutes(1));
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundClientGuard guard = new OutboundClientGuard("test", settings, meterRegistry);
+        AtomicInteger remoteCalls = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            guard.call(() -> {
+                remoteCalls.incrementAndGet();
+                throw new IllegalStateException();
+            }, e -> false);
+        }
+
+        // then
+        assertThat(remoteCalls).hasValue(2);
+        assertThat(circuitOpen(meterRegistry)).isEqualTo(1);
+        assertThat(requestCount(meterRegistry, "failure")).isEqualTo(2);
+        assertThat(requestCount(meterRegistry, "rejected")).isEqualTo(1);
+    }
+
+    @DisplayName("회로가 열린 후 대기 시간이 지나면 시험 호출이 성공할 때 회로가 닫힌다.")
+    @Test
+    void close_circuit_after_successful_trial_call() {
+        // given
+        OutboundClientSettings settings = new OutboundClientSettings();
+        settings.setFailureThreshold(1);
+        settings.setOpenDuration(Duration.ZERO);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundClientGuard guard = new OutboundClientGuard("test", settings, meterRegistry);
+        guard.call(() -> {
+            throw new IllegalStateException();
+        }, e -> false);
+
+        // when
+        boolean actual = guard.call(() -> true, e -> false);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(circuitOpen(meterRegistry)).isZero();
+        assertThat(requestCount(meterRegistry, "success")).isEqualTo(1);
+    }
+
+    @DisplayName("대체 정책이 실패이면 ClientUnavailableException이 발생한다.")
+    @Test
+    void run_throws_client_unavailable_exception() {
+        // given
+        OutboundClientGuard guard = new OutboundClientGuard("test", new OutboundClientSettings());
+
+        // when, then
+        assertThatThrownBy(() -> guard.run(() -> {
+            throw new IllegalStateException();
+        }))
+                .isInstanceOf(ClientUnavailableException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("호출이 제한 시간을 넘기면 중단되고 동시 호출 허용량을 반환한다.")
+    @Test
+    void stalled_call_times_out_and_releases_bulkhead() {
+        // given
+        OutboundClientSettings settings = new OutboundClientSettings();
+        settings.setMaxConcurrentCalls(1);
+        settings.setCallTimeout(Duration.ofMillis(100));
+        OutboundClientGuard guard = new OutboundClientGuard("test", settings);
+
+        // when, then
+        assertThatThrownBy(() -> guard.run(() -> {
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }))
+                .isInstanceOf(ClientUnavailableException.class)
+                .hasRootCauseInstanceOf(TimeoutException.class);
+        assertThat(guard.call(() -> true, e -> false)).isTrue();
+    }
+
+    @DisplayName("반쯤 열린 회로의 시험 호출이 Error를 던져도 실패로 기록되어 다음 시험 호출이 허용된다.")
+    @Test
+    void trial_call_throwing_error_reopens_circuit() {
+        // given
+        OutboundClientSettings settings = new OutboundClientSettings();
+        settings.setFailureThreshold(1);
+        settings.setOpenDuration(Duration.ZERO);
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboundClientGuard guard = new OutboundClientGuard("test", settings, meterRegistry);
+        guard.call(() -> {
+            throw new IllegalStateException();
+        }, e -> false);
+
+        // when
+        assertThatThrownBy(() -> guard.call(() -> {
+            throw new AssertionError("trial failed");
+        }, e -> false))
+                .isInstanceOf(AssertionError.class);
+        boolean actual = guard.call(() -> true, e -> false);
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(circuitOpen(meterRegistry)).isZero();
+        assertThat(requestCount(meterRegistry, "failure")).isEqualTo(2);
+        assertThat(requestCount(meterRegistry, "rejected")).isZero();
+    }
+
+    private double circuitOpen(MeterRegistry meterRegistry) {
+        return meterRegistry.get("kitchenpos.client.circuit.open")
+                .tag("client", "test")
+                .gauge()
+                .value();
+    }
+
+    private long requestCount(MeterRegistry meterRegistry, String outcome) {
+        return meterRegistry.get("kitchenpos.client.requests")
+                .tag("client", "test")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,46 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProfanityMatcherTest {
+
+    private final ProfanityMatcher matcher = ProfanityMatcher.of(List.of("# comment", "ass", "bad word", "shit"));
+
+    @DisplayName("단어 목록의 단어를 대소문자 구분 없이 포함하면 true를 반환한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"ass", "Kick ASS chicken", "very bad word here", "holy-shit!"})
+    void contains_word(String text) {
+        // when
+        boolean actual = matcher.matches(text);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("다른 단어 안에 섞여 있어도 단어 목록의 단어를 포함하면 true를 반환한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"Badass치킨", "classic chicken", "bullshit burger", "verybad wordy"})
+    void contains_embedded_word(String text) {
+        // when
+        boolean actual = matcher.matches(text);
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @DisplayName("단어 목록의 단어를 포함하지 않으면 false를 반환한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"후라이드", "badword", "sh it", "comment"})
+    void not_contains_word(String text) {
+        // when
+        boolean actual = matcher.matches(text);
+
+        // then
+        assertThat(actual).isFalse();
+    }
+}
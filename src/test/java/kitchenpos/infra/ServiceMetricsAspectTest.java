@@ -0,0 +1,47 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.domain.MenuGroup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ServiceMetricsAspectTest {
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DisplayName("서비스 메서드 호출 시간을 결과별로 기록한다.")
+    @Test
+    void time_service_calls_by_outcome() {
+        // given
+        long successCount = count("findAll", "success");
+        long failureCount = count("create", "IllegalArgumentException");
+
+        // when
+        menuGroupService.findAll();
+        assertThatThrownBy(() -> menuGroupService.create(new MenuGroup()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // then
+        assertThat(count("findAll", "success")).isEqualTo(successCount + 1);
+        assertThat(count("create", "IllegalArgumentException")).isEqualTo(failureCount + 1);
+    }
+
+    private long count(String method, String outcome) {
+        Timer timer = meterRegistry.find("kitchenpos.service")
+                .tags("class", "MenuGroupService", "method", method, "outcome", outcome)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class SqlMonitorTest {
+    private static final Duration SLOW_THRESHOLD = Duration.ofMillis(100);
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlMonitor.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @DisplayName("SQL 실행 시간을 기록하면 요청과 타이머에 집계하고, 임계치 이상이면 느린 SQL로 세고 표본으로 뽑힌 경우에만 경고를 남긴다.")
+    @ParameterizedTest(name = "실행 시간 {0}ms, 표본 비율 {1}")
+    @CsvSource({
+            "99, 0.0, 0, 0",
+            "99, 1.0, 0, 0",
+            "100, 0.0, 1, 0",
+            "100, 1.0, 1, 1",
+            "250, 1.0, 1, 1"
+    })
+    void record_counts_slow_statements_and_logs_sampled_ones(
+            long millis,
+            double sampleRate,
+            long expectedSlowCount,
+            int expectedWarnings
+    ) {
+        // given
+        SqlMonitor monitor = sqlMonitor(sampleRate);
+        SqlRequestStats stats = monitor.begin();
+
+        // when
+        try {
+            monitor.record("select * from orders", Duration.ofMillis(millis).toNanos());
+        } finally {
+            monitor.end();
+        }
+        monitor.record("select * from orders", Duration.ofMillis(millis).toNanos());
+
+        // then
+        assertThat(stats.getStatementCount()).isEqualTo(1);
+        assertThat(stats.getElapsedNanos()).isEqualTo(Duration.ofMillis(millis).toNanos());
+        assertThat(meterRegistry.get("kitchenpos.sql.statements").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("kitchenpos.sql.slow").counter().count()).isEqualTo(expectedSlowCount * 2);
+        assertThat(appender.list)
+                .hasSize(expectedWarnings * 2)
+                .allSatisfy(event -> {
+                    assertThat(event.getLevel()).isEqualTo(Level.WARN);
+                    assertThat(event.getFormattedMessage())
+                            .isEqualTo("Slow SQL (" + millis + " ms): select * from orders");
+                });
+    }
+
+    private SqlMonitor sqlMonitor(double sampleRate) {
+        SqlMonitor monitor = new SqlMonitor(
+                SLOW_THRESHOLD,
+                sampleRate,
+                new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry)).getBeanProvider(MeterRegistry.class)
+        );
+        monitor.afterSingletonsInstantiated();
+        return monitor;
+    }
+}
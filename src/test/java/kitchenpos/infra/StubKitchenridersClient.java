@@ -0,0 +1,34 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StubKitchenridersClient extends KitchenridersClient {
+
+    private final List<UUID> requestedOrderIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger remainingFailures = new AtomicInteger();
+
+    public StubKitchenridersClient() {
+        super(new OutboundClientSettings(), new SimpleMeterRegistry());
+    }
+
+    @Override
+    public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        requestedOrderIds.add(orderId);
+        if (remainingFailures.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+            throw new IllegalStateException("kitchenriders unavailable");
+        }
+    }
+
+    public void failNext(final int count) {
+        remainingFailures.set(count);
+    }
+
+    public List<UUID> getRequestedOrderIds() {
+        return requestedOrderIds;
+    }
+}
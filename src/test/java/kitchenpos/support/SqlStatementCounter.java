@@ -0,0 +1,43 @@
+package kitchenpos.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements StatementInspector {
+    private static final AtomicInteger selects = new AtomicInteger();
+    private static final AtomicInteger inserts = new AtomicInteger();
+    private static final AtomicInteger updates = new AtomicInteger();
+
+    @Override
+    public String inspect(final String sql) {
+        final String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select")) {
+            selects.incrementAndGet();
+        } else if (statement.startsWith("insert")) {
+            inserts.incrementAndGet();
+        } else if (statement.startsWith("update")) {
+            updates.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        selects.set(0);
+        inserts.set(0);
+        updates.set(0);
+    }
+
+    public static int selectCount() {
+        return selects.get();
+    }
+
+    public static int insertCount() {
+        return inserts.get();
+    }
+
+    public static int updateCount() {
+        return updates.get();
+    }
+}
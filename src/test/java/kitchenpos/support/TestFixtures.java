@@ -0,0 +1,153 @@
+package kitchenpos.support;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuGroupRepository;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TestFixtures {
+    private static final long MENU_PRICE = 16_000;
+
+    private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+    private final ProductRepository productRepository;
+    private final OrderTableRepository orderTableRepository;
+
+    public TestFixtures(
+            MenuGroupRepository menuGroupRepository,
+            MenuRepository menuRepository,
+            ProductRepository productRepository,
+            OrderTableRepository orderTableRepository
+    ) {
+        this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+        this.productRepository = productRepository;
+        this.orderTableRepository = orderTableRepository;
+    }
+
+    public MenuGroup saveMenuGroup() {
+        MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(UUID.randomUUID());
+        menuGroup.setName("메뉴 그룹");
+        return menuGroupRepository.save(menuGroup);
+    }
+
+    public Product saveProduct(long price) {
+        Product product = new Product();
+        product.setId(UUID.randomUUID());
+        product.setName("후라이드");
+        product.setPrice(BigDecimal.valueOf(price));
+        return productRepository.save(product);
+    }
+
+    /**
+     * 메뉴 상품 없이 16,000원짜리 메뉴를 저장한다.
+     */
+    public Menu saveMenu() {
+        return saveMenus(1).get(0);
+    }
+
+    public List<Menu> saveMenus(int count) {
+        MenuGroup menuGroup = saveMenuGroup();
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            menus.add(saveMenu(menuGroup, "메뉴" + i, MENU_PRICE, BigDecimal.valueOf(MENU_PRICE), new ArrayList<>()));
+        }
+        return menus;
+    }
+
+    /**
+     * 16,000원짜리 상품을 한 개씩 담은 16,000원짜리 메뉴를 저장한다.
+     */
+    public Menu saveMenuWithProducts(int productCount) {
+        List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            menuProducts.add(menuProduct(saveProduct(MENU_PRICE), 1));
+        }
+        return saveMenu(
+                saveMenuGroup(),
+                "메뉴",
+                MENU_PRICE,
+                BigDecimal.valueOf(MENU_PRICE * productCount),
+                menuProducts
+        );
+    }
+
+    public Menu saveMenu(Product product, long quantity, long price) {
+        return saveMenu(
+                saveMenuGroup(),
+                "후라이드 두마리",
+                price,
+                product.getPrice().multiply(BigDecimal.valueOf(quantity)),
+                List.of(menuProduct(product, quantity))
+        );
+    }
+
+    public OrderTable saveOccupiedOrderTable() {
+        OrderTable orderTable = new OrderTable();
+        orderTable.setId(UUID.randomUUID());
+        orderTable.setName("1번");
+        orderTable.setOccupied(true);
+        return orderTableRepository.save(orderTable);
+    }
+
+    public static Order takeoutOrderRequest(Menu menu, long quantity) {
+        Order request = takeoutOrderRequest(List.of(menu));
+        request.getOrderLineItems().get(0).setQuantity(quantity);
+        return request;
+    }
+
+    public static Order takeoutOrderRequest(List<Menu> menus) {
+        List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (Menu menu : menus) {
+            OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1);
+            orderLineItems.add(orderLineItem);
+        }
+        Order request = new Order();
+        request.setType(OrderType.TAKEOUT);
+        request.setOrderLineItems(orderLineItems);
+        return request;
+    }
+
+    private MenuProduct menuProduct(Product product, long quantity) {
+        MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProduct(product);
+        menuProduct.setQuantity(quantity);
+        return menuProduct;
+    }
+
+    private Menu saveMenu(
+            MenuGroup menuGroup,
+            String name,
+            long price,
+            BigDecimal menuProductsPrice,
+            List<MenuProduct> menuProducts
+    ) {
+        Menu menu = new Menu();
+        menu.setId(UUID.randomUUID());
+        menu.setName(name);
+        menu.setPrice(BigDecimal.valueOf(price));
+        menu.setMenuProductsPrice(menuProductsPrice);
+        menu.setMenuGroup(menuGroup);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(menuProducts);
+        return menuRepository.save(menu);
+    }
+}